@@ -0,0 +1,46 @@
+package br.com.microservices.orchestrated.inventoryservice.config.tracing;
+
+import br.com.microservices.orchestrated.inventoryservice.core.tracing.SagaTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private static final AttributeKey<String> REPOSITORY = AttributeKey.stringKey("saga.repository");
+    private static final AttributeKey<String> METHOD = AttributeKey.stringKey("saga.repository.method");
+
+    private final ObjectProvider<SagaTracer> sagaTracer;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName){
+
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory -> repositoryFactory.addInvocationListener(this::afterInvocation));
+        }
+
+        return bean;
+    }
+
+    private void afterInvocation(RepositoryMethodInvocation invocation){
+
+        var attributes = Attributes.of(
+                REPOSITORY, invocation.getRepositoryInterface().getSimpleName(),
+                METHOD, invocation.getMethod().getName());
+
+        var result = invocation.getResult();
+        var error = result != null ? result.getError() : null;
+
+        sagaTracer.getObject().recordCompleted("saga.repository", invocation.getDuration(TimeUnit.NANOSECONDS), attributes, error);
+    }
+}
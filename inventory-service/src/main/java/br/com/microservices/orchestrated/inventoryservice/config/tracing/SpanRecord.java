@@ -0,0 +1,15 @@
+package br.com.microservices.orchestrated.inventoryservice.config.tracing;
+
+import java.util.Map;
+
+public record SpanRecord(String traceId,
+                         String spanId,
+                         String parentSpanId,
+                         String service,
+                         String name,
+                         String kind,
+                         String status,
+                         long startEpochMicros,
+                         long durationMicros,
+                         Map<String, String> attributes) {
+}
@@ -0,0 +1,240 @@
+package br.com.microservices.orchestrated.inventoryservice.core.backpressure;
+
+import br.com.microservices.orchestrated.inventoryservice.config.exception.BackpressureException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ListenerBackpressure {
+
+    public static final String FORWARD_LISTENER_PREFIX = "saga-forward-";
+
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    private final DataSource dataSource;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.backpressure.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.backpressure.initial-limit:10}")
+    private int initialLimit;
+
+    @Value("${saga.backpressure.min-limit:1}")
+    private int minLimit;
+
+    @Value("${saga.backpressure.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${saga.backpressure.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    @Value("${saga.backpressure.latency-threshold-ms:250}")
+    private long latencyThresholdMs;
+
+    @Value("${saga.backpressure.decrease-window-ms:250}")
+    private long decreaseWindowMs;
+
+    @Value("${saga.backpressure.max-wait-ms:5000}")
+    private long maxWaitMs;
+
+    @Value("${saga.backpressure.check-interval-ms:200}")
+    private long checkIntervalMs;
+
+    private AimdLimiter limiter;
+
+    private ScheduledExecutorService monitor;
+
+    private volatile boolean paused;
+
+    @PostConstruct
+    public void start(){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        limiter = new AimdLimiter(initialLimit, minLimit, maxLimit, backoffRatio,
+                TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs), TimeUnit.MILLISECONDS.toNanos(decreaseWindowMs));
+
+        monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+            var thread = new Thread(runnable, "saga-backpressure-monitor");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        monitor.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("saga.backpressure.limit", limiter, AimdLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("saga.backpressure.in.flight", limiter, AimdLimiter::getInFlight).register(meterRegistry);
+        Gauge.builder("saga.backpressure.paused", this, backpressure -> backpressure.paused ? 1 : 0).register(meterRegistry);
+        Gauge.builder("saga.backpressure.pool.waiting", this, ListenerBackpressure::poolWaiters).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop(){
+
+        if (monitor != null) {
+
+            monitor.shutdownNow();
+        }
+    }
+
+    public void execute(Runnable work){
+
+        run(work, true);
+    }
+
+    public void executeCompensation(Runnable work){
+
+        run(work, false);
+    }
+
+    private void run(Runnable work, boolean forward){
+
+        if (!enabled) {
+
+            work.run();
+
+            return;
+        }
+
+        acquire(forward);
+
+        var startedAt = System.nanoTime();
+
+        try {
+
+            work.run();
+        } finally {
+
+            var finishedAt = System.nanoTime();
+            var congested = poolWaiters() > 0;
+
+            limiter.release(finishedAt - startedAt, congested, finishedAt);
+
+            if (congested) {
+
+                pause();
+            }
+        }
+    }
+
+    private void acquire(boolean forward){
+
+        if (limiter.tryAcquire()) {
+
+            return;
+        }
+
+        if (forward) {
+
+            pause();
+        }
+
+        try {
+
+            if (!limiter.acquire(TimeUnit.MILLISECONDS.toNanos(maxWaitMs))) {
+
+                throw new BackpressureException(String.format("No database slot freed up within %d ms with a limit of %d", maxWaitMs, limiter.getLimit()));
+            }
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while waiting for a database slot", e);
+        }
+    }
+
+    private void check(){
+
+        try {
+
+            if (paused && !limiter.isSaturated() && poolWaiters() == 0) {
+
+                resume();
+            }
+        } catch (Exception e) {
+
+            log.error("Error trying to resume listener containers", e);
+        }
+    }
+
+    private synchronized void pause(){
+
+        if (paused) {
+
+            return;
+        }
+
+        paused = true;
+
+        forwardContainers().forEach(MessageListenerContainer::pause);
+
+        meterRegistry.counter("saga.backpressure.pauses").increment();
+
+        log.warn("Pausing forward listener containers at {} in-flight with a limit of {}", limiter.getInFlight(), limiter.getLimit());
+    }
+
+    private synchronized void resume(){
+
+        if (!paused) {
+
+            return;
+        }
+
+        paused = false;
+
+        forwardContainers().forEach(MessageListenerContainer::resume);
+
+        log.info("Resuming forward listener containers with a limit of {}", limiter.getLimit());
+    }
+
+    private List<MessageListenerContainer> forwardContainers(){
+
+        return kafkaListenerEndpointRegistry.getListenerContainers()
+                .stream()
+                .filter(container -> container.getListenerId() != null && container.getListenerId().startsWith(FORWARD_LISTENER_PREFIX))
+                .toList();
+    }
+
+    private int poolWaiters(){
+
+        try {
+
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+
+                return 0;
+            }
+
+            var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+            return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+        } catch (SQLException e) {
+
+            return 0;
+        }
+    }
+}
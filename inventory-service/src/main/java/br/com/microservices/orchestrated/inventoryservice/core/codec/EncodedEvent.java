@@ -0,0 +1,8 @@
+package br.com.microservices.orchestrated.inventoryservice.core.codec;
+
+import org.apache.kafka.common.header.Header;
+
+import java.util.List;
+
+public record EncodedEvent(String codec, byte[] payload, List<Header> headers) {
+}
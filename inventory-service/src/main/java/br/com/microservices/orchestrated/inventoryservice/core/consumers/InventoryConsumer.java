@@ -1,9 +1,14 @@
 package br.com.microservices.orchestrated.inventoryservice.core.consumers;
 
+import br.com.microservices.orchestrated.inventoryservice.core.backpressure.ListenerBackpressure;
+import br.com.microservices.orchestrated.inventoryservice.core.priority.PriorityLanes;
 import br.com.microservices.orchestrated.inventoryservice.core.services.InventoryService;
+import br.com.microservices.orchestrated.inventoryservice.core.tracing.SagaTracer;
 import br.com.microservices.orchestrated.inventoryservice.core.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -14,24 +19,50 @@ public class InventoryConsumer {
 
     private final InventoryService inventoryService;
     private final JsonUtil jsonUtil;
+    private final MeterRegistry meterRegistry;
+    private final SagaTracer sagaTracer;
+    private final PriorityLanes priorityLanes;
+    private final ListenerBackpressure listenerBackpressure;
 
     @KafkaListener(
+            id = ListenerBackpressure.FORWARD_LISTENER_PREFIX + "inventory-success",
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.inventory-success}"
+            topics = "${spring.kafka.topic.inventory-success}",
+            concurrency = "${spring.kafka.partitions.inventory-success:${spring.kafka.partitions.default}}"
     )
-    public void consumeSuccessEvent(String payload) {
-        log.info("Receiving success event {} from inventory-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
-        inventoryService.updateInventory(event);
+    @KafkaListener(
+            id = ListenerBackpressure.FORWARD_LISTENER_PREFIX + "inventory-success-priority",
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.inventory-success}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
+    )
+    public void consumeSuccessEvent(ConsumerRecord<String, byte[]> record) {
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
+        var event = jsonUtil.toEvent(record);
+        log.info("Receiving success event {} from inventory-success topic", event);
+        var timer = meterRegistry.timer("saga.step.duration", "step", "updateInventory", "lane", priorityLanes.laneOf(record.topic()));
+        listenerBackpressure.execute(() -> timer.record(() -> inventoryService.updateInventory(event)));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.inventory-fail}"
+            topics = "${spring.kafka.topic.inventory-fail}",
+            concurrency = "${spring.kafka.partitions.inventory-fail:${spring.kafka.partitions.default}}"
+    )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.inventory-fail}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
     )
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from inventory-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
-        inventoryService.rollbackInventory(event);
+    public void consumeFailEvent(ConsumerRecord<String, byte[]> record) {
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
+        var event = jsonUtil.toEvent(record);
+        log.info("Receiving rollback event {} from inventory-fail topic", event);
+        var timer = meterRegistry.timer("saga.step.duration", "step", "rollbackInventory", "lane", priorityLanes.laneOf(record.topic()));
+        listenerBackpressure.executeCompensation(() -> timer.record(() -> inventoryService.rollbackInventory(event)));
     }
 }
\ No newline at end of file
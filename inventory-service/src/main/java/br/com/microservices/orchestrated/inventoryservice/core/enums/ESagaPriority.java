@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.inventoryservice.core.enums;
+
+public enum ESagaPriority {
+
+    NORMAL,
+    HIGH
+}
@@ -1,31 +1,45 @@
 package br.com.microservices.orchestrated.inventoryservice.core.producers;
 
+import br.com.microservices.orchestrated.inventoryservice.core.codec.EncodedEvent;
+import br.com.microservices.orchestrated.inventoryservice.core.priority.PriorityLanes;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SagaSendPipeline sagaSendPipeline;
+
+    private final MeterRegistry meterRegistry;
+
+    private final PriorityLanes priorityLanes;
 
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
-    public void sendEvent(String payload) {
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(String key, EncodedEvent event) {
 
-        try {
+        var topic = priorityLanes.resolveTopic(orchestratorTopic, event.headers());
 
-            log.info("Sending event to topic {} with data {}", orchestratorTopic, payload);
+        log.info("Sending event to topic {} with {} bytes encoded as {}", topic, event.payload().length, event.codec());
+
+        meterRegistry.summary("saga.wire.bytes", "topic", topic).record(event.payload().length);
+
+        return sagaSendPipeline.send(createRecord(topic, key, event));
+    }
 
-            kafkaTemplate.send(orchestratorTopic, payload);
-        } catch (Exception e) {
+    private ProducerRecord<String, byte[]> createRecord(String topic, String key, EncodedEvent event) {
 
-            log.error("Error trying to send data to topic {} with data {}", orchestratorTopic, payload, e);
-        }
+        return new ProducerRecord<>(topic, null, key, event.payload(), new RecordHeaders(event.headers()));
     }
 }
@@ -43,7 +43,7 @@ public class InventoryService {
             log.error("Error trying to update inventory: ", ex);
             handleFailCurrentNotExecuted(event, ex.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event.getOrderId(), jsonUtil.encodeStepResult(event));
     }
 
     private void checkCurrentValidation(Event event) {
@@ -125,7 +125,7 @@ public class InventoryService {
         } catch (Exception ex) {
             addHistory(event, "Rollback not executed for inventory: ".concat(ex.getMessage()));
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event.getOrderId(), jsonUtil.encodeStepResult(event));
     }
 
     private void returnInventoryToPreviousValues(Event event) {
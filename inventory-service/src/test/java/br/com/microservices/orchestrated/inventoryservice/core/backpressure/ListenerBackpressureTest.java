@@ -0,0 +1,132 @@
+package br.com.microservices.orchestrated.inventoryservice.core.backpressure;
+
+import br.com.microservices.orchestrated.inventoryservice.config.exception.BackpressureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ListenerBackpressureTest {
+
+    private MessageListenerContainer forwardContainer;
+
+    private MessageListenerContainer compensationContainer;
+
+    private ListenerBackpressure backpressure;
+
+    @BeforeEach
+    void setUp(){
+
+        forwardContainer = container(ListenerBackpressure.FORWARD_LISTENER_PREFIX + "success");
+        compensationContainer = container("fail");
+
+        var registry = mock(KafkaListenerEndpointRegistry.class);
+        when(registry.getListenerContainers()).thenReturn(List.of(forwardContainer, compensationContainer));
+
+        backpressure = new ListenerBackpressure(registry, mock(DataSource.class), new SimpleMeterRegistry());
+
+        ReflectionTestUtils.setField(backpressure, "enabled", true);
+        ReflectionTestUtils.setField(backpressure, "initialLimit", 1);
+        ReflectionTestUtils.setField(backpressure, "minLimit", 1);
+        ReflectionTestUtils.setField(backpressure, "maxLimit", 1);
+        ReflectionTestUtils.setField(backpressure, "backoffRatio", 0.5);
+        ReflectionTestUtils.setField(backpressure, "latencyThresholdMs", 250L);
+        ReflectionTestUtils.setField(backpressure, "decreaseWindowMs", 250L);
+        ReflectionTestUtils.setField(backpressure, "maxWaitMs", 10L);
+        ReflectionTestUtils.setField(backpressure, "checkIntervalMs", 60000L);
+
+        backpressure.start();
+    }
+
+    @AfterEach
+    void tearDown(){
+
+        backpressure.stop();
+    }
+
+    @Test
+    void runsWorkAndReleasesItsSlot(){
+
+        var ran = new AtomicBoolean();
+
+        backpressure.execute(() -> ran.set(true));
+
+        assertThat(ran).isTrue();
+        assertThat(limiter().getInFlight()).isZero();
+        verify(forwardContainer, never()).pause();
+    }
+
+    @Test
+    void saturatedForwardWorkPausesOnlyForwardListenersAndIsNotRun(){
+
+        occupyAllSlots();
+
+        var ran = new AtomicBoolean();
+
+        assertThatThrownBy(() -> backpressure.execute(() -> ran.set(true)))
+                .isInstanceOf(BackpressureException.class);
+
+        assertThat(ran).isFalse();
+        assertThat(limiter().getInFlight()).isEqualTo(1);
+        verify(forwardContainer).pause();
+        verify(compensationContainer, never()).pause();
+    }
+
+    @Test
+    void saturatedCompensationWorkNeverPausesAndIsNotRun(){
+
+        occupyAllSlots();
+
+        var ran = new AtomicBoolean();
+
+        assertThatThrownBy(() -> backpressure.executeCompensation(() -> ran.set(true)))
+                .isInstanceOf(BackpressureException.class);
+
+        assertThat(ran).isFalse();
+        verify(forwardContainer, never()).pause();
+        verify(compensationContainer, never()).pause();
+    }
+
+    @Test
+    void failingWorkStillReleasesItsSlot(){
+
+        assertThatThrownBy(() -> backpressure.executeCompensation(() -> {
+
+            throw new IllegalStateException("rollback failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(limiter().getInFlight()).isZero();
+    }
+
+    private void occupyAllSlots(){
+
+        assertThat(limiter().tryAcquire()).isTrue();
+    }
+
+    private AimdLimiter limiter(){
+
+        return (AimdLimiter) ReflectionTestUtils.getField(backpressure, "limiter");
+    }
+
+    private MessageListenerContainer container(String listenerId){
+
+        var container = mock(MessageListenerContainer.class);
+        when(container.getListenerId()).thenReturn(listenerId);
+
+        return container;
+    }
+}
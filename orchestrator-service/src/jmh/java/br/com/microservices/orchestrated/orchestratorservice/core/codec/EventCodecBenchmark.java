@@ -0,0 +1,158 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.codec;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Order;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.OrderProducts;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Product;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventCodecBenchmark {
+
+    private static final int PRODUCTS = 10;
+    private static final int HISTORY_ENTRIES = 8;
+
+    @Param({"json", "smile", "cbor"})
+    private String codecName;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private EventCodec codec;
+
+    private Event event;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+
+        var mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        if (blackbird) {
+
+            mapper.registerModule(new BlackbirdModule());
+        }
+
+        codec = switch (codecName) {
+
+            case "smile" -> new JacksonEventCodec(codecName, mapper.copyWith(new SmileFactory()));
+            case "cbor" -> new JacksonEventCodec(codecName, mapper.copyWith(new CBORFactory()));
+            default -> new JacksonEventCodec(codecName, mapper);
+        };
+
+        event = createEvent();
+        encoded = codec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public Event decode() throws IOException {
+
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public byte[] encodeBandwidth(PayloadCounters counters) throws IOException {
+
+        var payload = codec.encode(event);
+        counters.bytes += payload.length;
+
+        return payload;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PayloadCounters {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+
+            bytes = 0;
+        }
+    }
+
+    private Event createEvent(){
+
+        var now = LocalDateTime.now();
+        var transactionId = String.format("%s_%s", System.currentTimeMillis(), UUID.randomUUID());
+        var products = new ArrayList<OrderProducts>(PRODUCTS);
+        var history = new ArrayList<History>(HISTORY_ENTRIES);
+
+        for (int i = 0; i < PRODUCTS; i++) {
+
+            products.add(new OrderProducts(new Product("PRODUCT_CODE_" + i, 10.5 * (i + 1)), i + 1));
+        }
+
+        var sources = List.of(EEventSource.values());
+
+        for (int i = 0; i < HISTORY_ENTRIES; i++) {
+
+            history.add(History.builder()
+                    .source(sources.get(i % sources.size()))
+                    .status(SUCCESS)
+                    .message("Saga step " + i + " executed with success")
+                    .createdAt(now.plusNanos(i * 1_000_000L))
+                    .build());
+        }
+
+        var order = Order.builder()
+                .id(UUID.randomUUID().toString())
+                .products(products)
+                .createdAt(now)
+                .transactionId(transactionId)
+                .totalAmount(577.5)
+                .totalItems(55)
+                .build();
+
+        return Event.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .orderId(order.getId())
+                .payload(order)
+                .source(EEventSource.ORCHESTRATOR)
+                .status(SUCCESS)
+                .eventHistory(history)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.producers;
+
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransactionalSendBenchmark {
+
+    private static final String BOOTSTRAP_SERVERS_PROPERTY = "saga.benchmark.bootstrap-servers";
+    private static final String TOPIC = "saga-benchmark";
+    private static final String GROUP_ID = "saga-benchmark-group";
+    private static final int PAYLOAD_SIZE = 1024;
+
+    @Param({"at-least-once", "exactly-once"})
+    private String semantics;
+
+    @Param({"1", "50", "500"})
+    private int batchSize;
+
+    private KafkaProducer<String, byte[]> producer;
+
+    private ConsumerGroupMetadata groupMetadata;
+
+    private TopicPartition inputPartition;
+
+    private byte[] payload;
+
+    private long offset;
+
+    @Setup
+    public void setup(){
+
+        var props = new HashMap<String, Object>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, System.getProperty(BOOTSTRAP_SERVERS_PROPERTY, "localhost:9092"));
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+
+        if (isExactlyOnce()) {
+
+            props.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "saga-benchmark-tx-" + UUID.randomUUID());
+        }
+
+        producer = new KafkaProducer<>(props);
+
+        if (isExactlyOnce()) {
+
+            producer.initTransactions();
+        }
+
+        groupMetadata = new ConsumerGroupMetadata(GROUP_ID);
+        inputPartition = new TopicPartition(TOPIC + "-input", 0);
+        payload = new byte[PAYLOAD_SIZE];
+    }
+
+    @TearDown
+    public void tearDown(){
+
+        producer.close();
+    }
+
+    @Benchmark
+    public void sendBatch(RecordCounters counters) throws Exception {
+
+        counters.records += batchSize;
+
+        if (isExactlyOnce()) {
+
+            producer.beginTransaction();
+            sendRecords();
+            offset += batchSize;
+            producer.sendOffsetsToTransaction(Map.of(inputPartition, new OffsetAndMetadata(offset)), groupMetadata);
+            producer.commitTransaction();
+
+            return;
+        }
+
+        for (Future<?> send : sendRecords()) {
+
+            send.get();
+        }
+    }
+
+    private ArrayList<Future<?>> sendRecords(){
+
+        var sends = new ArrayList<Future<?>>(batchSize);
+
+        for (int i = 0; i < batchSize; i++) {
+
+            sends.add(producer.send(new ProducerRecord<>(TOPIC, String.valueOf(i), payload)));
+        }
+
+        return sends;
+    }
+
+    private boolean isExactlyOnce(){
+
+        return "exactly-once".equals(semantics);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RecordCounters {
+
+        public long records;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+
+            records = 0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.INVENTORY_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PRODUCT_VALIDATION_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.FAILED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.INVENTORY_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.INVENTORY_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PAYMENT_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PAYMENT_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PRODUCT_VALIDATION_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PRODUCT_VALIDATION_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.SAGA_DEFINITION;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SagaTransitionBenchmark {
+
+    private static final int EVENT_SOURCE_INDEX = 0;
+    private static final int SAGA_STATUS_INDEX = 1;
+    private static final int TOPIC_INDEX = 2;
+
+    private static final Object[][] LEGACY_SAGA_HANDLER = {
+
+            {ORCHESTRATOR, SUCCESS, PRODUCT_VALIDATION_SUCCESS},
+            {ORCHESTRATOR, FAILED, FINISH_FAIL},
+
+            {PRODUCT_VALIDATION_SERVICE, ROLLBACK_PENDING, PRODUCT_VALIDATION_FAIL},
+            {PRODUCT_VALIDATION_SERVICE, FAILED, FINISH_FAIL},
+            {PRODUCT_VALIDATION_SERVICE, SUCCESS, PAYMENT_SUCCESS},
+
+            {PAYMENT_SERVICE, ROLLBACK_PENDING, PAYMENT_FAIL},
+            {PAYMENT_SERVICE, FAILED, PRODUCT_VALIDATION_FAIL},
+            {PAYMENT_SERVICE, SUCCESS, INVENTORY_SUCCESS},
+
+            {INVENTORY_SERVICE, ROLLBACK_PENDING, INVENTORY_FAIL},
+            {INVENTORY_SERVICE, FAILED, PAYMENT_FAIL},
+            {INVENTORY_SERVICE, SUCCESS, FINISH_SUCCESS},
+    };
+
+    private SagaTransitionTable transitionTable;
+
+    private EEventSource[] sources;
+
+    private ESagaStatus[] statuses;
+
+    private int index;
+
+    @Setup
+    public void setup(){
+
+        transitionTable = SagaTransitionTable.compile(SAGA_DEFINITION);
+
+        sources = new EEventSource[LEGACY_SAGA_HANDLER.length];
+        statuses = new ESagaStatus[LEGACY_SAGA_HANDLER.length];
+
+        for (int i = 0; i < LEGACY_SAGA_HANDLER.length; i++) {
+
+            sources[i] = (EEventSource) LEGACY_SAGA_HANDLER[i][EVENT_SOURCE_INDEX];
+            statuses[i] = (ESagaStatus) LEGACY_SAGA_HANDLER[i][SAGA_STATUS_INDEX];
+        }
+    }
+
+    @Benchmark
+    public ETopics streamScan(){
+
+        var current = next();
+        var source = sources[current];
+        var status = statuses[current];
+
+        return (ETopics) Arrays.stream(LEGACY_SAGA_HANDLER)
+                .filter(row -> source.equals(row[EVENT_SOURCE_INDEX]) && status.equals(row[SAGA_STATUS_INDEX]))
+                .map(row -> row[TOPIC_INDEX])
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public List<ETopics> transitionTable(){
+
+        var current = next();
+
+        return transitionTable.find(sources[current], statuses[current]);
+    }
+
+    private int next(){
+
+        index = index + 1 == sources.length ? 0 : index + 1;
+
+        return index;
+    }
+}
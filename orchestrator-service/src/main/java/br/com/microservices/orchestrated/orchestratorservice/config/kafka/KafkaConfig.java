@@ -1,24 +1,39 @@
 package br.com.microservices.orchestrated.orchestratorservice.config.kafka;
 
+import br.com.microservices.orchestrated.orchestratorservice.config.exception.EventCodecException;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.BASE_ORCHESTRATOR;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_FAIL;
@@ -37,8 +52,11 @@ import static br.com.microservices.orchestrated.orchestratorservice.core.enums.E
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    private static final Integer PARTITION_COUNT = 1;
+    private static final String PARTITIONS_PROPERTY = "spring.kafka.partitions.";
     private static final Integer REPLICAS_COUNT = 1;
+    private static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    private final Environment environment;
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootStrapServers;
@@ -49,22 +67,123 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${spring.kafka.partitions.default}")
+    private Integer defaultPartitions;
+
+    @Value("${saga.priority.topic-suffix:-priority}")
+    private String priorityTopicSuffix;
+
+    @Value("${saga.consumer.batch.max-poll-records:500}")
+    private Integer batchMaxPollRecords;
+
+    @Value("${saga.producer.linger-ms:5}")
+    private Integer lingerMs;
+
+    @Value("${spring.kafka.consumer.isolation-level:read_committed}")
+    private String isolationLevel;
+
+    @Value("${saga.consumer.exactly-once.enabled:false}")
+    private boolean exactlyOnce;
+
+    @Value("${saga.consumer.exactly-once.transaction-id-prefix:orchestrator-tx-}")
+    private String transactionIdPrefix;
+
+    @Value("${saga.consumer.exactly-once.max-poll-records:500}")
+    private Integer transactionalMaxPollRecords;
+
     @Bean
-    public ConsumerFactory<String, String> consumerFactory(){
+    public ConsumerFactory<String, byte[]> consumerFactory(){
 
         return new DefaultKafkaConsumerFactory<>(consumerProps());
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory(){
+    public ProducerFactory<String, byte[]> producerFactory(){
+
+        var producerFactory = new DefaultKafkaProducerFactory<String, byte[]>(producerProps());
+
+        if (exactlyOnce) {
+
+            producerFactory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+
+        return producerFactory;
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory){
+
+        var kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setAllowNonTransactional(true);
+        kafkaTemplate.setObservationEnabled(true);
+
+        return kafkaTemplate;
+    }
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, byte[]> kafkaTemplate){
+
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, -1));
+    }
+
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer){
+
+        var errorHandler = new DefaultErrorHandler(deadLetterPublishingRecoverer);
+        errorHandler.addNotRetryableExceptions(EventCodecException.class);
+
+        return errorHandler;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> stripedListenerContainerFactory(ConsumerFactory<String, byte[]> consumerFactory, DefaultErrorHandler kafkaErrorHandler){
 
-        return new DefaultKafkaProducerFactory<>(producerProps());
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        factory.getContainerProperties().setObservationEnabled(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory){
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> batchListenerContainerFactory(ConsumerFactory<String, byte[]> consumerFactory, DefaultErrorHandler kafkaErrorHandler){
+
+        var consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        factory.getContainerProperties().setObservationEnabled(true);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        return factory;
+    }
 
-        return new KafkaTemplate<>(producerFactory);
+    @Bean
+    @ConditionalOnProperty(name = "saga.consumer.exactly-once.enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> transactionalListenerContainerFactory(ConsumerFactory<String, byte[]> consumerFactory,
+                                                                                                        ProducerFactory<String, byte[]> producerFactory,
+                                                                                                        DefaultErrorHandler kafkaErrorHandler){
+
+        var consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, transactionalMaxPollRecords);
+
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        factory.getContainerProperties().setObservationEnabled(true);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+        factory.getContainerProperties().setTransactionManager(new KafkaTransactionManager<>(producerFactory));
+
+        return factory;
     }
 
     @Bean
@@ -133,11 +252,20 @@ public class KafkaConfig {
         return buildTopic(NOTIFY_ENDING.getTopic());
     }
 
+    @Bean
+    public KafkaAdmin.NewTopics priorityTopics(){
+
+        return new KafkaAdmin.NewTopics(Arrays
+                .stream(ETopics.values())
+                .map(topic -> buildTopic(topic.getTopic() + priorityTopicSuffix))
+                .toArray(NewTopic[]::new));
+    }
+
     private NewTopic buildTopic(String name) {
 
         return TopicBuilder.name(name)
                 .replicas(REPLICAS_COUNT)
-                .partitions(PARTITION_COUNT)
+                .partitions(environment.getProperty(PARTITIONS_PROPERTY + name, Integer.class, defaultPartitions))
                 .build();
     }
 
@@ -147,8 +275,10 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootStrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, isolationLevel);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
 
         return props;
     }
@@ -157,8 +287,11 @@ public class KafkaConfig {
 
         HashMap<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootStrapServers);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
 
         return props;
     }
@@ -0,0 +1,34 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "saga.tracing.export.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Value("${saga.tracing.export.file:}")
+    private String file;
+
+    @Value("${saga.tracing.export.memory-capacity:10000}")
+    private int memoryCapacity;
+
+    @Bean
+    public SagaSpanExporter sagaSpanExporter(ObjectMapper objectMapper) throws IOException {
+
+        return new SagaSpanExporter(objectMapper, memoryCapacity, StringUtils.hasText(file) ? Path.of(file) : null);
+    }
+
+    @Bean
+    public SagaTracesEndpoint sagaTracesEndpoint(SagaSpanExporter sagaSpanExporter){
+
+        return new SagaTracesEndpoint(sagaSpanExporter);
+    }
+}
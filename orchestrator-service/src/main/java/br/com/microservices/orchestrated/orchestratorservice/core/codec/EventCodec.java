@@ -0,0 +1,14 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.codec;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+
+import java.io.IOException;
+
+public interface EventCodec {
+
+    String getName();
+
+    byte[] encode(Event event) throws IOException;
+
+    Event decode(byte[] payload) throws IOException;
+}
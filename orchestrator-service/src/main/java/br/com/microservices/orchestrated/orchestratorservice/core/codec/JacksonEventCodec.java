@@ -0,0 +1,42 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.codec;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+
+public class JacksonEventCodec implements EventCodec {
+
+    private final String name;
+
+    private final ObjectReader reader;
+
+    private final ObjectWriter writer;
+
+    public JacksonEventCodec(String name, ObjectMapper mapper){
+
+        this.name = name;
+        this.reader = mapper.readerFor(Event.class);
+        this.writer = mapper.writerFor(Event.class);
+    }
+
+    @Override
+    public String getName(){
+
+        return name;
+    }
+
+    @Override
+    public byte[] encode(Event event) throws IOException {
+
+        return writer.writeValueAsBytes(event);
+    }
+
+    @Override
+    public Event decode(byte[] payload) throws IOException {
+
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+public class StripedSagaExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.consumer.striped.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.consumer.striped.stripes:8}")
+    private int stripeCount;
+
+    @Value("${saga.consumer.striped.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor[] stripes;
+
+    private LongAdder[] busyNanos;
+
+    @PostConstruct
+    public void start(){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        stripes = new ThreadPoolExecutor[stripeCount];
+        busyNanos = new LongAdder[stripeCount];
+
+        for (int i = 0; i < stripeCount; i++) {
+
+            stripes[i] = createStripe(i);
+            busyNanos[i] = new LongAdder();
+
+            registerMetrics(i);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        if (stripes == null) {
+
+            return;
+        }
+
+        for (ThreadPoolExecutor stripe : stripes) {
+
+            stripe.shutdown();
+        }
+
+        for (ThreadPoolExecutor stripe : stripes) {
+
+            stripe.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void execute(Object key, Runnable task){
+
+        if (!enabled) {
+
+            task.run();
+
+            return;
+        }
+
+        var stripe = stripeOf(key);
+
+        stripes[stripe].execute(() -> {
+
+            var startedAt = System.nanoTime();
+
+            try {
+
+                task.run();
+            } finally {
+
+                busyNanos[stripe].add(System.nanoTime() - startedAt);
+            }
+        });
+    }
+
+    private int stripeOf(Object key){
+
+        var hash = key == null ? 0 : key.hashCode();
+
+        return Math.floorMod(hash ^ (hash >>> 16), stripeCount);
+    }
+
+    private ThreadPoolExecutor createStripe(int stripe){
+
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+
+                    var thread = new Thread(runnable, "saga-stripe-" + stripe);
+                    thread.setDaemon(true);
+
+                    return thread;
+                },
+                blockWhenFull());
+    }
+
+    private RejectedExecutionHandler blockWhenFull(){
+
+        return (runnable, executor) -> {
+
+            if (executor.isShutdown()) {
+
+                throw new RejectedExecutionException("Saga stripe is shut down");
+            }
+
+            try {
+
+                executor.getQueue().put(runnable);
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+
+                throw new RejectedExecutionException(e);
+            }
+        };
+    }
+
+    private void registerMetrics(int stripe){
+
+        var tag = String.valueOf(stripe);
+
+        Gauge.builder("saga.stripes.queue.size", stripes[stripe], executor -> executor.getQueue().size())
+                .tag("stripe", tag)
+                .register(meterRegistry);
+
+        Gauge.builder("saga.stripes.active", stripes[stripe], ThreadPoolExecutor::getActiveCount)
+                .tag("stripe", tag)
+                .register(meterRegistry);
+
+        FunctionCounter.builder("saga.stripes.busy.seconds", busyNanos[stripe], busy -> busy.sum() / 1e9)
+                .tag("stripe", tag)
+                .register(meterRegistry);
+    }
+}
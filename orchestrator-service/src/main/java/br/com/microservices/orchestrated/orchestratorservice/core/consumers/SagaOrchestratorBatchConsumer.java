@@ -0,0 +1,133 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.consumers;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.producers.SagaOrchestratorProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${saga.consumer.batch.enabled:false} and !${saga.consumer.exactly-once.enabled:false}")
+public class SagaOrchestratorBatchConsumer {
+
+    private final SagaRecordRouter sagaRecordRouter;
+
+    private final SagaOrchestratorProducer sagaOrchestratorProducer;
+
+    @Value("${saga.consumer.batch.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = {
+                    "${spring.kafka.topic.start-saga}",
+                    "${spring.kafka.topic.orchestrator}",
+                    "${spring.kafka.topic.finish-success}",
+                    "${spring.kafka.topic.finish-fail}"
+            },
+            concurrency = "${spring.kafka.partitions.default}",
+            containerFactory = "batchListenerContainerFactory"
+    )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = {
+                    "${spring.kafka.topic.start-saga}${saga.priority.topic-suffix}",
+                    "${spring.kafka.topic.orchestrator}${saga.priority.topic-suffix}",
+                    "${spring.kafka.topic.finish-success}${saga.priority.topic-suffix}",
+                    "${spring.kafka.topic.finish-fail}${saga.priority.topic-suffix}"
+            },
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}",
+            containerFactory = "batchListenerContainerFactory"
+    )
+    public void consumeBatch(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment){
+
+        log.info("Receiving batch of {} events", records.size());
+
+        var sends = new ArrayList<CompletableFuture<Void>>(records.size());
+        RuntimeException routingFailure = null;
+
+        for (ConsumerRecord<String, byte[]> record : records) {
+
+            try {
+
+                sends.add(sagaRecordRouter.route(record));
+            } catch (RuntimeException e) {
+
+                routingFailure = e;
+
+                break;
+            }
+        }
+
+        sagaOrchestratorProducer.flush();
+
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        for (int index = 0; index < sends.size(); index++) {
+
+            try {
+
+                sends.get(index).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+
+                throw fail(records, sends, index, e);
+            } catch (ExecutionException e) {
+
+                throw fail(records, sends, index, e.getCause());
+            } catch (TimeoutException e) {
+
+                throw fail(records, sends, index, e);
+            }
+        }
+
+        if (routingFailure != null) {
+
+            throw fail(records, sends, sends.size(), routingFailure);
+        }
+
+        acknowledgment.acknowledge();
+    }
+
+    private BatchListenerFailedException fail(List<ConsumerRecord<String, byte[]>> records, List<CompletableFuture<Void>> sends, int index, Throwable cause){
+
+        var failed = new ArrayList<ConsumerRecord<String, byte[]>>();
+
+        for (int pending = index; pending < records.size(); pending++) {
+
+            if (pending >= sends.size() || !isSent(sends.get(pending))) {
+
+                failed.add(records.get(pending));
+            }
+        }
+
+        sagaRecordRouter.forget(failed);
+
+        var record = records.get(index);
+
+        log.error("Error trying to route event from offset {} of topic {}, committing the {} events before it", record.offset(), record.topic(), index, cause);
+
+        return new BatchListenerFailedException("Error trying to route event from offset " + record.offset() + " of topic " + record.topic(), cause, index);
+    }
+
+    private boolean isSent(CompletableFuture<Void> send){
+
+        return send.isDone() && !send.isCompletedExceptionally();
+    }
+}
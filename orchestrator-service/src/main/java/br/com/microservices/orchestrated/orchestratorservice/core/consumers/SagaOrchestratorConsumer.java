@@ -1,70 +1,232 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.consumers;
 
-import br.com.microservices.orchestrated.orchestratorservice.core.services.OrchestratorService;
-import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.orchestratorservice.config.exception.EventCodecException;
+import br.com.microservices.orchestrated.orchestratorservice.core.concurrency.StripedSagaExecutor;
+import br.com.microservices.orchestrated.orchestratorservice.core.tracing.SagaTracer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
+@ConditionalOnExpression("!${saga.consumer.batch.enabled:false} and !${saga.consumer.exactly-once.enabled:false}")
 public class SagaOrchestratorConsumer {
 
-    private final JsonUtil jsonUtil;
+    private final SagaRecordRouter sagaRecordRouter;
 
-    private final OrchestratorService service;
+    private final StripedSagaExecutor stripedSagaExecutor;
 
-    @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.start-saga}"
-    )
-    public void consumeStartSagaTopic(String payload){
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+    private final SagaTracer sagaTracer;
+
+    private final ExecutorService recoveryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+
+        var thread = new Thread(runnable, "saga-orchestrator-recovery");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    @Value("${saga.consumer.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
 
-        log.info("Receiving event {} from start-saga topic", payload);
+    @Value("${saga.consumer.striped.max-attempts:3}")
+    private int maxAttempts;
 
-        var event = jsonUtil.toEvent(payload);
+    @Value("${saga.consumer.striped.retry-backoff-ms:500}")
+    private long retryBackoffMs;
 
-        service.startSaga(event);
+    @PreDestroy
+    public void stop(){
+
+        recoveryExecutor.shutdown();
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.orchestrator}"
+            topics = "${spring.kafka.topic.start-saga}",
+            concurrency = "${spring.kafka.partitions.start-saga:${spring.kafka.partitions.default}}"
     )
-    public void consumeOrchestratorTopic(String payload){
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.start-saga}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
+    )
+    public void consumeStartSagaTopic(ConsumerRecord<String, byte[]> record) throws Exception {
 
-        log.info("Receiving event {} from orchestrator topic", payload);
+        routeAndWait(record);
+    }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.orchestrator}",
+            concurrency = "${spring.kafka.partitions.orchestrator:${spring.kafka.partitions.default}}",
+            containerFactory = "stripedListenerContainerFactory"
+    )
+    public void consumeOrchestratorTopic(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment){
 
-        var event = jsonUtil.toEvent(payload);
+        var key = record.key() != null ? record.key() : record.partition();
 
-        service.continueSaga(event);
+        stripedSagaExecutor.execute(key, sagaTracer.wrap(() -> process(record, acknowledgment)));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-success}"
+            topics = "${spring.kafka.topic.orchestrator}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
     )
-    public void consumeFinishSuccessTopic(String payload){
+    public void consumeOrchestratorPriorityTopic(ConsumerRecord<String, byte[]> record) throws Exception {
 
-        log.info("Receiving event {} from finish-success topic", payload);
+        routeAndWait(record);
+    }
 
-        var event = jsonUtil.toEvent(payload);
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.finish-success}",
+            concurrency = "${spring.kafka.partitions.finish-success:${spring.kafka.partitions.default}}"
+    )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.finish-success}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
+    )
+    public void consumeFinishSuccessTopic(ConsumerRecord<String, byte[]> record) throws Exception {
 
-        service.finishSagaSuccess(event);
+        routeAndWait(record);
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-fail}"
+            topics = "${spring.kafka.topic.finish-fail}",
+            concurrency = "${spring.kafka.partitions.finish-fail:${spring.kafka.partitions.default}}"
     )
-    public void consumeFinishFailTopic(String payload){
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.finish-fail}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
+    )
+    public void consumeFinishFailTopic(ConsumerRecord<String, byte[]> record) throws Exception {
+
+        routeAndWait(record);
+    }
+
+    private void routeAndWait(ConsumerRecord<String, byte[]> record) throws Exception {
+
+        try {
+
+            sagaRecordRouter.route(record).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+
+            sagaRecordRouter.forget(List.of(record));
+
+            throw unwrap(e);
+        } catch (EventCodecException e) {
+
+            throw e;
+        } catch (Exception e) {
+
+            sagaRecordRouter.forget(List.of(record));
+
+            throw e;
+        }
+    }
+
+    private void process(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment){
+
+        CompletableFuture<Void> routed;
+
+        try {
+
+            routed = routeWithRetries(record);
+        } catch (Exception e) {
+
+            recover(record, acknowledgment, e);
+
+            return;
+        }
+
+        routed.whenComplete((ignored, e) -> {
+
+            if (e == null) {
+
+                acknowledgment.acknowledge();
+            } else {
+
+                recoveryExecutor.execute(() -> recover(record, acknowledgment, unwrap(e)));
+            }
+        });
+    }
+
+    private CompletableFuture<Void> routeWithRetries(ConsumerRecord<String, byte[]> record) throws Exception {
+
+        for (int attempt = 1; ; attempt++) {
+
+            try {
+
+                return sagaRecordRouter.route(record);
+            } catch (EventCodecException e) {
+
+                throw e;
+            } catch (Exception e) {
+
+                sagaRecordRouter.forget(List.of(record));
+
+                if (attempt >= maxAttempts) {
+
+                    throw e;
+                }
+
+                log.warn("Error trying to continue saga from offset {} of partition {}, attempt {} of {}", record.offset(), record.partition(), attempt, maxAttempts, e);
+
+                Thread.sleep(retryBackoffMs);
+            }
+        }
+    }
+
+    private void recover(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment, Exception e){
+
+        sagaRecordRouter.forget(List.of(record));
+
+        log.error("Error trying to continue saga from offset {} of partition {}, sending to dead letter topic", record.offset(), record.partition(), e);
+
+        try {
+
+            deadLetterPublishingRecoverer.accept(record, e);
+
+            acknowledgment.acknowledge();
+        } catch (Exception deadLetterFailure) {
+
+            log.error("Error trying to dead letter offset {} of partition {}, leaving it unacknowledged so it is redelivered", record.offset(), record.partition(), deadLetterFailure);
+        }
+    }
 
-        log.info("Receiving event {} from finish-fail topic", payload);
+    private Exception unwrap(Throwable throwable){
 
-        var event = jsonUtil.toEvent(payload);
+        var cause = throwable instanceof ExecutionException || throwable instanceof CompletionException
+                ? throwable.getCause()
+                : throwable;
 
-        service.finishSagaFailed(event);
+        return cause instanceof Exception exception ? exception : new IllegalStateException(cause);
     }
 }
@@ -0,0 +1,77 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.consumers;
+
+import br.com.microservices.orchestrated.orchestratorservice.config.exception.EventCodecException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "saga.consumer.exactly-once.enabled", havingValue = "true")
+public class SagaOrchestratorTransactionalConsumer {
+
+    private final SagaRecordRouter sagaRecordRouter;
+
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = {
+                    "${spring.kafka.topic.start-saga}",
+                    "${spring.kafka.topic.orchestrator}",
+                    "${spring.kafka.topic.finish-success}",
+                    "${spring.kafka.topic.finish-fail}"
+            },
+            concurrency = "${spring.kafka.partitions.default}",
+            containerFactory = "transactionalListenerContainerFactory"
+    )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = {
+                    "${spring.kafka.topic.start-saga}${saga.priority.topic-suffix}",
+                    "${spring.kafka.topic.orchestrator}${saga.priority.topic-suffix}",
+                    "${spring.kafka.topic.finish-success}${saga.priority.topic-suffix}",
+                    "${spring.kafka.topic.finish-fail}${saga.priority.topic-suffix}"
+            },
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}",
+            containerFactory = "transactionalListenerContainerFactory"
+    )
+    public void consumeBatch(List<ConsumerRecord<String, byte[]>> records){
+
+        log.info("Receiving transactional batch of {} events", records.size());
+
+        try {
+
+            for (ConsumerRecord<String, byte[]> record : records) {
+
+                route(record);
+            }
+        } catch (RuntimeException e) {
+
+            sagaRecordRouter.forget(records);
+
+            throw e;
+        }
+    }
+
+    private void route(ConsumerRecord<String, byte[]> record){
+
+        try {
+
+            sagaRecordRouter.route(record);
+        } catch (EventCodecException e) {
+
+            log.error("Error trying to decode event from offset {} of topic {}, sending to dead letter topic", record.offset(), record.topic(), e);
+
+            deadLetterPublishingRecoverer.accept(record, e);
+        }
+    }
+}
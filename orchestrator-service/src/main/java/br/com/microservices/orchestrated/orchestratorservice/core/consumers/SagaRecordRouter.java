@@ -0,0 +1,150 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.consumers;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dedup.SagaDeduplicator;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.orchestratorservice.core.priority.PriorityLanes;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaRoutingHeaders;
+import br.com.microservices.orchestrated.orchestratorservice.core.services.OrchestratorService;
+import br.com.microservices.orchestrated.orchestratorservice.core.timeout.SagaTimeoutService;
+import br.com.microservices.orchestrated.orchestratorservice.core.tracing.SagaTracer;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaRecordRouter {
+
+    private final JsonUtil jsonUtil;
+
+    private final OrchestratorService service;
+
+    private final SagaMetrics sagaMetrics;
+
+    private final SagaTracer sagaTracer;
+
+    private final SagaDeduplicator sagaDeduplicator;
+
+    private final PriorityLanes priorityLanes;
+
+    private final SagaTimeoutService sagaTimeoutService;
+
+    @Value("${spring.kafka.topic.start-saga}")
+    private String startSagaTopic;
+
+    @Value("${spring.kafka.topic.orchestrator}")
+    private String orchestratorTopic;
+
+    @Value("${spring.kafka.topic.finish-success}")
+    private String finishSuccessTopic;
+
+    @Value("${spring.kafka.topic.finish-fail}")
+    private String finishFailTopic;
+
+    public CompletableFuture<Void> route(ConsumerRecord<String, byte[]> record){
+
+        var topic = priorityLanes.baseTopic(record.topic());
+        var sample = sagaMetrics.startRouting();
+
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
+
+        try {
+
+            if (orchestratorTopic.equals(topic)) {
+
+                var routingHeaders = SagaRoutingHeaders.from(record.headers());
+
+                if (routingHeaders.isPresent()) {
+
+                    var headers = routingHeaders.get();
+
+                    if (sagaDeduplicator.isDuplicate(headers)) {
+
+                        log.info("Dropping duplicate event {} | {} for transaction {} from offset {}", headers.source(), headers.status(), headers.transactionId(), record.offset());
+
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    if (sagaTimeoutService.isStaleReply(headers.transactionId(), headers.source(), headers.status())) {
+
+                        return dropStaleReply(headers.transactionId(), headers.source(), record);
+                    }
+
+                    var forwarded = service.forwardSaga(record, headers);
+
+                    if (forwarded.isPresent()) {
+
+                        return forwarded.get();
+                    }
+                }
+            }
+
+            var event = jsonUtil.toEvent(record);
+
+            log.info("Receiving event {} from {} topic", event, topic);
+
+            if (orchestratorTopic.equals(topic) && sagaTimeoutService.isStaleReply(event.getTransactionId(), event.getSource(), event.getStatus())) {
+
+                return dropStaleReply(event.getTransactionId(), event.getSource(), record);
+            }
+
+            return route(topic, event);
+        } finally {
+
+            sagaMetrics.stopRouting(sample, topic);
+        }
+    }
+
+    public void forget(List<ConsumerRecord<String, byte[]>> records){
+
+        for (ConsumerRecord<String, byte[]> record : records) {
+
+            if (orchestratorTopic.equals(priorityLanes.baseTopic(record.topic()))) {
+
+                SagaRoutingHeaders.from(record.headers()).ifPresent(sagaDeduplicator::forget);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> dropStaleReply(String transactionId, EEventSource source, ConsumerRecord<String, byte[]> record){
+
+        log.warn("Dropping late reply from {} for timed out transaction {} from offset {}", source, transactionId, record.offset());
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> route(String topic, Event event){
+
+        if (startSagaTopic.equals(topic)) {
+
+            return service.startSaga(event);
+        }
+
+        if (orchestratorTopic.equals(topic)) {
+
+            return service.continueSaga(event);
+        }
+
+        if (finishSuccessTopic.equals(topic)) {
+
+            return service.finishSagaSuccess(event);
+        }
+
+        if (finishFailTopic.equals(topic)) {
+
+            return service.finishSagaFailed(event);
+        }
+
+        throw new IllegalArgumentException(String.format("Topic %s is not handled by the orchestrator", topic));
+    }
+}
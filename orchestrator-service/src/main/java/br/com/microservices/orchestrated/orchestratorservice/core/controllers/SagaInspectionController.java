@@ -0,0 +1,51 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.controllers;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.inspection.SagaAgePercentiles;
+import br.com.microservices.orchestrated.orchestratorservice.core.inspection.SagaIndex;
+import br.com.microservices.orchestrated.orchestratorservice.core.inspection.SagaTransitionCount;
+import br.com.microservices.orchestrated.orchestratorservice.core.inspection.SagaView;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/sagas")
+public class SagaInspectionController {
+
+    private final SagaIndex sagaIndex;
+
+    @GetMapping("/in-flight")
+    public Map<ETopics, Long> countInFlightByStep(){
+
+        return sagaIndex.countInFlightByStep();
+    }
+
+    @GetMapping("/in-flight/ages")
+    public SagaAgePercentiles getAgePercentiles(){
+
+        return sagaIndex.getAgePercentiles();
+    }
+
+    @GetMapping("/transitions")
+    public List<SagaTransitionCount> getTransitionCounts(){
+
+        return sagaIndex.getTransitionCounts();
+    }
+
+    @GetMapping("/{transactionId}")
+    public ResponseEntity<SagaView> findByTransactionId(@PathVariable String transactionId){
+
+        return sagaIndex
+                .find(transactionId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
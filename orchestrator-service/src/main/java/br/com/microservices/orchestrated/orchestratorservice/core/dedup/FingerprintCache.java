@@ -0,0 +1,111 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.dedup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class FingerprintCache {
+
+    private static final int WAYS = 8;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray fingerprints;
+
+    private final AtomicLongArray stamps;
+
+    private final int bucketShift;
+
+    private final LongAdder evictions = new LongAdder();
+
+    public FingerprintCache(long memoryBytes){
+
+        var maxBuckets = Math.max(1L, Math.min(1 << 26, memoryBytes / BYTES_PER_ENTRY / WAYS));
+        var buckets = Long.highestOneBit(maxBuckets);
+
+        this.fingerprints = new AtomicLongArray((int) buckets * WAYS);
+        this.stamps = new AtomicLongArray((int) buckets * WAYS);
+        this.bucketShift = Long.SIZE - Long.numberOfTrailingZeros(buckets);
+    }
+
+    public boolean putIfAbsent(long fingerprint){
+
+        var key = normalize(fingerprint);
+        var base = firstSlot(key);
+
+        while (true) {
+
+            var victim = -1;
+            var victimKey = EMPTY;
+            var oldest = Long.MAX_VALUE;
+
+            for (int slot = base; slot < base + WAYS; slot++) {
+
+                var current = fingerprints.get(slot);
+
+                if (current == key) {
+
+                    stamps.set(slot, System.nanoTime());
+
+                    return true;
+                }
+
+                var stamp = current == EMPTY ? Long.MIN_VALUE : stamps.get(slot);
+
+                if (stamp < oldest) {
+
+                    victim = slot;
+                    victimKey = current;
+                    oldest = stamp;
+                }
+            }
+
+            if (fingerprints.compareAndSet(victim, victimKey, key)) {
+
+                stamps.set(victim, System.nanoTime());
+
+                if (victimKey != EMPTY) {
+
+                    evictions.increment();
+                }
+
+                return false;
+            }
+        }
+    }
+
+    public void remove(long fingerprint){
+
+        var key = normalize(fingerprint);
+        var base = firstSlot(key);
+
+        for (int slot = base; slot < base + WAYS; slot++) {
+
+            if (fingerprints.compareAndSet(slot, key, EMPTY)) {
+
+                return;
+            }
+        }
+    }
+
+    public int getCapacity(){
+
+        return fingerprints.length();
+    }
+
+    public long getEvictions(){
+
+        return evictions.sum();
+    }
+
+    private int firstSlot(long key){
+
+        return bucketShift == Long.SIZE ? 0 : (int) (key >>> bucketShift) * WAYS;
+    }
+
+    private long normalize(long fingerprint){
+
+        return fingerprint == EMPTY ? 1L : fingerprint;
+    }
+}
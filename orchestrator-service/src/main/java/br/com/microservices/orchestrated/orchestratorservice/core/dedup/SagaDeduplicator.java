@@ -0,0 +1,109 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.dedup;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaRoutingHeaders;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+public class SagaDeduplicator {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final MeterRegistry meterRegistry;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    @Value("${saga.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.dedup.memory-bytes:8388608}")
+    private long memoryBytes;
+
+    private FingerprintCache cache;
+
+    @PostConstruct
+    public void start(){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        cache = new FingerprintCache(memoryBytes);
+
+        FunctionCounter.builder("saga.dedup.lookups", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("saga.dedup.lookups", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("saga.dedup.evictions", cache, FingerprintCache::getEvictions).register(meterRegistry);
+        Gauge.builder("saga.dedup.hit.ratio", this, SagaDeduplicator::getHitRatio).register(meterRegistry);
+        Gauge.builder("saga.dedup.capacity", cache, FingerprintCache::getCapacity).register(meterRegistry);
+    }
+
+    public boolean isDuplicate(SagaRoutingHeaders headers){
+
+        if (!enabled) {
+
+            return false;
+        }
+
+        if (cache.putIfAbsent(fingerprint(headers))) {
+
+            hits.increment();
+
+            return true;
+        }
+
+        misses.increment();
+
+        return false;
+    }
+
+    public void forget(SagaRoutingHeaders headers){
+
+        if (enabled) {
+
+            cache.remove(fingerprint(headers));
+        }
+    }
+
+    private double getHitRatio(){
+
+        var lookups = hits.sum() + misses.sum();
+
+        return lookups == 0 ? 0 : (double) hits.sum() / lookups;
+    }
+
+    private long fingerprint(SagaRoutingHeaders headers){
+
+        var hash = FNV_OFFSET_BASIS;
+        var transactionId = headers.transactionId();
+
+        for (int i = 0; i < transactionId.length(); i++) {
+
+            hash = (hash ^ transactionId.charAt(i)) * FNV_PRIME;
+        }
+
+        hash = (hash ^ headers.source().ordinal()) * FNV_PRIME;
+        hash = (hash ^ headers.status().ordinal()) * FNV_PRIME;
+
+        return mix(hash);
+    }
+
+    private long mix(long hash){
+
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb93fe1a85ec5L;
+
+        return hash ^ (hash >>> 33);
+    }
+}
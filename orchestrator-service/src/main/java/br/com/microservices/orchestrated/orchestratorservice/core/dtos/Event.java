@@ -2,6 +2,7 @@ package br.com.microservices.orchestrated.orchestratorservice.core.dtos;
 
 
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaPriority;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,6 +32,8 @@ public class Event {
 
     private ESagaStatus status;
 
+    private ESagaPriority priority;
+
     private List<History> eventHistory;
 
     private LocalDateTime createdAt;
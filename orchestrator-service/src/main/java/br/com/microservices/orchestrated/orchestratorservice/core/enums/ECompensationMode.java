@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.enums;
+
+public enum ECompensationMode {
+
+    SEQUENTIAL,
+    PARALLEL
+}
@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.enums;
+
+public enum EJournalRecordType {
+
+    STARTED,
+    CONTINUED,
+    FINISHED_SUCCESS,
+    FINISHED_FAIL
+}
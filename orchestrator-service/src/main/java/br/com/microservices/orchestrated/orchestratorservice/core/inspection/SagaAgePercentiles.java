@@ -0,0 +1,8 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.inspection;
+
+public record SagaAgePercentiles(int inFlight,
+                                 long p50Millis,
+                                 long p90Millis,
+                                 long p99Millis,
+                                 long maxMillis) {
+}
@@ -0,0 +1,193 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.inspection;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+public class SagaIndex {
+
+    private final Map<String, SagaIndexEntry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder[][] transitions = new LongAdder[EEventSource.values().length][ESagaStatus.values().length];
+
+    private final LongAdder untracked = new LongAdder();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.index.max-entries:100000}")
+    private int maxEntries;
+
+    @PostConstruct
+    public void start(){
+
+        for (LongAdder[] bySource : transitions) {
+
+            Arrays.setAll(bySource, status -> new LongAdder());
+        }
+
+        meterRegistry.gaugeMapSize("saga.index.in.flight", List.of(), entries);
+
+        FunctionCounter.builder("saga.index.untracked", untracked, LongAdder::sum).register(meterRegistry);
+    }
+
+    public void record(String transactionId, String orderId, EEventSource source, ESagaStatus status, List<ETopics> awaiting){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        transitions[source.ordinal()][status.ordinal()].increment();
+
+        var now = System.currentTimeMillis();
+        var entry = entries.get(transactionId);
+
+        if (entry == null) {
+
+            if (entries.size() >= maxEntries) {
+
+                untracked.increment();
+
+                return;
+            }
+
+            entry = entries.computeIfAbsent(transactionId, id -> new SagaIndexEntry(id, now));
+        }
+
+        entry.update(orderId, source, status, awaiting, now);
+    }
+
+    public void finish(String transactionId, EEventSource source, ESagaStatus status){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        transitions[source.ordinal()][status.ordinal()].increment();
+
+        entries.remove(transactionId);
+    }
+
+    public Optional<SagaView> find(String transactionId){
+
+        return Optional
+                .ofNullable(entries.get(transactionId))
+                .map(entry -> toView(entry, System.currentTimeMillis()));
+    }
+
+    public Map<ETopics, Long> countInFlightByStep(){
+
+        var counts = new long[ETopics.values().length];
+
+        for (SagaIndexEntry entry : entries.values()) {
+
+            for (ETopics topic : entry.getAwaiting()) {
+
+                counts[topic.ordinal()]++;
+            }
+        }
+
+        var result = new EnumMap<ETopics, Long>(ETopics.class);
+
+        for (ETopics topic : ETopics.values()) {
+
+            if (counts[topic.ordinal()] > 0) {
+
+                result.put(topic, counts[topic.ordinal()]);
+            }
+        }
+
+        return result;
+    }
+
+    public SagaAgePercentiles getAgePercentiles(){
+
+        var now = System.currentTimeMillis();
+        var ages = new long[entries.size()];
+        var size = 0;
+
+        for (SagaIndexEntry entry : entries.values()) {
+
+            if (size == ages.length) {
+
+                break;
+            }
+
+            ages[size++] = now - entry.getStartedAtMillis();
+        }
+
+        Arrays.sort(ages, 0, size);
+
+        return new SagaAgePercentiles(size,
+                percentile(ages, size, 0.50),
+                percentile(ages, size, 0.90),
+                percentile(ages, size, 0.99),
+                size == 0 ? 0 : ages[size - 1]);
+    }
+
+    public List<SagaTransitionCount> getTransitionCounts(){
+
+        var sources = EEventSource.values();
+        var statuses = ESagaStatus.values();
+        var result = new ArrayList<SagaTransitionCount>();
+
+        for (EEventSource source : sources) {
+
+            for (ESagaStatus status : statuses) {
+
+                var count = transitions[source.ordinal()][status.ordinal()].sum();
+
+                if (count > 0) {
+
+                    result.add(new SagaTransitionCount(source, status, count));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private long percentile(long[] sorted, int size, double quantile){
+
+        if (size == 0) {
+
+            return 0;
+        }
+
+        return sorted[(int) Math.min(size - 1, Math.ceil(quantile * size) - 1)];
+    }
+
+    private SagaView toView(SagaIndexEntry entry, long now){
+
+        return new SagaView(entry.getTransactionId(),
+                entry.getOrderId(),
+                entry.getSource(),
+                entry.getStatus(),
+                entry.getAwaiting(),
+                Instant.ofEpochMilli(entry.getStartedAtMillis()),
+                Instant.ofEpochMilli(entry.getUpdatedAtMillis()),
+                now - entry.getStartedAtMillis());
+    }
+}
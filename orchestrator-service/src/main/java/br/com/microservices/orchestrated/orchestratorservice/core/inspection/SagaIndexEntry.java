@@ -0,0 +1,47 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.inspection;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public final class SagaIndexEntry {
+
+    private final String transactionId;
+
+    private final long startedAtMillis;
+
+    private volatile String orderId;
+
+    private volatile EEventSource source;
+
+    private volatile ESagaStatus status;
+
+    private volatile List<ETopics> awaiting;
+
+    private volatile long updatedAtMillis;
+
+    SagaIndexEntry(String transactionId, long startedAtMillis){
+
+        this.transactionId = transactionId;
+        this.startedAtMillis = startedAtMillis;
+        this.updatedAtMillis = startedAtMillis;
+        this.awaiting = List.of();
+    }
+
+    void update(String orderId, EEventSource source, ESagaStatus status, List<ETopics> awaiting, long nowMillis){
+
+        if (orderId != null) {
+
+            this.orderId = orderId;
+        }
+
+        this.source = source;
+        this.status = status;
+        this.awaiting = awaiting;
+        this.updatedAtMillis = nowMillis;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.inspection;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+
+public record SagaTransitionCount(EEventSource source, ESagaStatus status, long count) {
+}
@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.inspection;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SagaView(String transactionId,
+                       String orderId,
+                       EEventSource source,
+                       ESagaStatus status,
+                       List<ETopics> awaiting,
+                       Instant startedAt,
+                       Instant updatedAt,
+                       long ageMillis) {
+}
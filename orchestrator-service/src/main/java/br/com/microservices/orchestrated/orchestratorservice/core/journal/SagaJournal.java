@@ -0,0 +1,359 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.journal;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.codec.EncodedEvent;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.FINISHED_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.FINISHED_SUCCESS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Component
+public class SagaJournal {
+
+    private static final int FIXED_BODY_SIZE = Long.BYTES + 3 + Short.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final byte NO_ORDINAL = -1;
+    private static final double COMPACTION_LIVE_RATIO = 0.25;
+
+    private static final EJournalRecordType[] RECORD_TYPES = EJournalRecordType.values();
+    private static final EEventSource[] SOURCES = EEventSource.values();
+    private static final ESagaStatus[] STATUSES = ESagaStatus.values();
+
+    private final Map<String, Long> index = new ConcurrentHashMap<>();
+
+    private final NavigableMap<Integer, SagaJournalSegment> segments = new ConcurrentSkipListMap<>();
+
+    private final Map<Integer, Set<String>> liveBySegment = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${saga.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.journal.directory:./data/saga-journal}")
+    private Path directory;
+
+    @Value("${saga.journal.segment-size:67108864}")
+    private int segmentSize;
+
+    private SagaJournalSegment activeSegment;
+
+    @PostConstruct
+    public void recover() throws IOException {
+
+        if (!enabled) {
+
+            return;
+        }
+
+        Files.createDirectories(directory);
+
+        var startedAt = System.nanoTime();
+
+        try (var files = Files.list(directory)) {
+
+            for (Path path : files.filter(SagaJournalSegment::isSegmentFile).sorted().toList()) {
+
+                var segment = SagaJournalSegment.open(directory, SagaJournalSegment.parseId(path), segmentSize);
+
+                segments.put(segment.getId(), segment);
+
+                recoverSegment(segment);
+            }
+        }
+
+        activeSegment = segments.isEmpty() ? openSegment(0) : segments.lastEntry().getValue();
+
+        log.info("Saga journal recovered {} in-flight sagas from {} segments in {} ms",
+                index.size(), segments.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public void append(EJournalRecordType type, Event event, EncodedEvent message){
+
+        append(type, event.getTransactionId(), event.getSource(), event.getStatus(), message.codec(), message.payload());
+    }
+
+    public void append(EJournalRecordType type, String transactionId, EEventSource source, ESagaStatus status, String codec, byte[] payload){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+
+            write(type, transactionId, source, status, codec, payload);
+        } catch (Exception e) {
+
+            log.error("Error trying to write saga journal for transaction {}", transactionId, e);
+        } finally {
+
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<SagaJournalEntry> findLatest(String transactionId){
+
+        lock.readLock().lock();
+
+        try {
+
+            var position = index.get(transactionId);
+
+            if (position == null) {
+
+                return Optional.empty();
+            }
+
+            var segment = segments.get(segmentId(position));
+
+            if (segment == null) {
+
+                return Optional.empty();
+            }
+
+            var bodyLength = segment.readBodyLength(offset(position));
+
+            return bodyLength == 0 ? Optional.empty() : Optional.of(decode(segment.readBody(offset(position), bodyLength)));
+        } finally {
+
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getInFlightSagas(){
+
+        return index.size();
+    }
+
+    @PreDestroy
+    public void close(){
+
+        segments.values().forEach(SagaJournalSegment::force);
+    }
+
+    private void write(EJournalRecordType type, String transactionId, EEventSource source, ESagaStatus status, String codec, byte[] payload) throws IOException {
+
+        var transactionIdBytes = transactionId.getBytes(UTF_8);
+        var codecBytes = codec.getBytes(UTF_8);
+        var bodyLength = FIXED_BODY_SIZE + transactionIdBytes.length + codecBytes.length + payload.length;
+
+        ensureRoom(bodyLength);
+
+        activeSegment.prepare(bodyLength)
+                .putLong(System.currentTimeMillis())
+                .put((byte) type.ordinal())
+                .put(ordinal(source))
+                .put(ordinal(status))
+                .putShort((short) transactionIdBytes.length)
+                .put(transactionIdBytes)
+                .put((byte) codecBytes.length)
+                .put(codecBytes)
+                .putInt(payload.length)
+                .put(payload);
+
+        var offset = activeSegment.commit(bodyLength);
+
+        updateIndex(type, transactionId, position(activeSegment.getId(), offset));
+    }
+
+    private void ensureRoom(int bodyLength) throws IOException {
+
+        if (bodyLength + SagaJournalSegment.RECORD_HEADER_SIZE > segmentSize) {
+
+            throw new IllegalArgumentException("Saga journal record is larger than the segment size");
+        }
+
+        if (activeSegment.hasRoom(bodyLength + SagaJournalSegment.RECORD_HEADER_SIZE)) {
+
+            return;
+        }
+
+        activeSegment.force();
+        activeSegment = openSegment(activeSegment.getId() + 1);
+
+        compact();
+    }
+
+    private void updateIndex(EJournalRecordType type, String transactionId, long position){
+
+        var previous = isFinished(type) ? index.remove(transactionId) : index.put(transactionId, position);
+
+        if (previous != null) {
+
+            liveRecords(segmentId(previous)).remove(transactionId);
+        }
+
+        if (!isFinished(type)) {
+
+            liveRecords(segmentId(position)).add(transactionId);
+        }
+    }
+
+    private void compact() throws IOException {
+
+        for (SagaJournalSegment segment : new ArrayList<>(segments.headMap(activeSegment.getId()).values())) {
+
+            if (liveRecords(segment.getId()).size() > segment.getRecords() * COMPACTION_LIVE_RATIO || !relocateLiveRecords(segment)) {
+
+                break;
+            }
+
+            segments.remove(segment.getId());
+            liveBySegment.remove(segment.getId());
+            segment.delete();
+
+            log.info("Saga journal segment {} compacted", segment.getId());
+        }
+    }
+
+    private boolean relocateLiveRecords(SagaJournalSegment segment){
+
+        var liveRecords = liveRecords(segment.getId());
+
+        for (String transactionId : new ArrayList<>(liveRecords)) {
+
+            var offset = offset(index.get(transactionId));
+            var bodyLength = segment.readBodyLength(offset);
+
+            if (!activeSegment.hasRoom(bodyLength + SagaJournalSegment.RECORD_HEADER_SIZE)) {
+
+                return false;
+            }
+
+            activeSegment.prepare(bodyLength).put(segment.readBody(offset, bodyLength));
+
+            var relocated = activeSegment.commit(bodyLength);
+
+            index.put(transactionId, position(activeSegment.getId(), relocated));
+            liveRecords.remove(transactionId);
+            liveRecords(activeSegment.getId()).add(transactionId);
+        }
+
+        return true;
+    }
+
+    private Set<String> liveRecords(int segmentId){
+
+        return liveBySegment.computeIfAbsent(segmentId, id -> new HashSet<>());
+    }
+
+    private void recoverSegment(SagaJournalSegment segment){
+
+        var offset = 0;
+        var records = 0;
+        var bodyLength = segment.readBodyLength(offset);
+
+        while (bodyLength > 0) {
+
+            var body = segment.readBody(offset, bodyLength);
+            var type = RECORD_TYPES[body.get(Long.BYTES)];
+            var transactionId = readTransactionId(body);
+
+            updateIndex(type, transactionId, position(segment.getId(), offset));
+
+            records++;
+            offset += SagaJournalSegment.RECORD_HEADER_SIZE + bodyLength;
+            bodyLength = segment.readBodyLength(offset);
+        }
+
+        segment.recover(offset, records);
+    }
+
+    private SagaJournalSegment openSegment(int id) throws IOException {
+
+        var segment = SagaJournalSegment.open(directory, id, segmentSize);
+
+        segments.put(id, segment);
+
+        return segment;
+    }
+
+    private SagaJournalEntry decode(ByteBuffer body){
+
+        var timestamp = body.getLong();
+        var type = RECORD_TYPES[body.get()];
+        var source = body.get();
+        var status = body.get();
+        var transactionId = new byte[body.getShort()];
+
+        body.get(transactionId);
+
+        var codec = new byte[body.get()];
+
+        body.get(codec);
+
+        var payload = new byte[body.getInt()];
+
+        body.get(payload);
+
+        return new SagaJournalEntry(type,
+                timestamp,
+                source == NO_ORDINAL ? null : SOURCES[source],
+                status == NO_ORDINAL ? null : STATUSES[status],
+                new String(transactionId, UTF_8),
+                new String(codec, UTF_8),
+                payload);
+    }
+
+    private String readTransactionId(ByteBuffer body){
+
+        var transactionIdOffset = Long.BYTES + 3;
+        var transactionId = new byte[body.getShort(transactionIdOffset)];
+
+        body.get(transactionIdOffset + Short.BYTES, transactionId);
+
+        return new String(transactionId, UTF_8);
+    }
+
+    private boolean isFinished(EJournalRecordType type){
+
+        return type == FINISHED_SUCCESS || type == FINISHED_FAIL;
+    }
+
+    private byte ordinal(Enum<?> value){
+
+        return value == null ? NO_ORDINAL : (byte) value.ordinal();
+    }
+
+    private long position(int segmentId, int offset){
+
+        return ((long) segmentId << Integer.SIZE) | offset;
+    }
+
+    private int segmentId(long position){
+
+        return (int) (position >>> Integer.SIZE);
+    }
+
+    private int offset(long position){
+
+        return (int) position;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.journal;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+
+public record SagaJournalEntry(EJournalRecordType type,
+                               long timestamp,
+                               EEventSource source,
+                               ESagaStatus status,
+                               String transactionId,
+                               String codec,
+                               byte[] payload) {
+}
@@ -0,0 +1,143 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class SagaJournalSegment {
+
+    public static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final String FILE_NAME_PATTERN = "saga-journal-%010d.log";
+
+    private final int id;
+
+    private final Path path;
+
+    private final MappedByteBuffer buffer;
+
+    private int writePosition;
+
+    private int records;
+
+    private SagaJournalSegment(int id, Path path, MappedByteBuffer buffer){
+
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    public static SagaJournalSegment open(Path directory, int id, int size) throws IOException {
+
+        var path = directory.resolve(String.format(FILE_NAME_PATTERN, id));
+
+        try (var channel = FileChannel.open(path, CREATE, READ, WRITE)) {
+
+            var capacity = (int) Math.max(size, channel.size());
+
+            return new SagaJournalSegment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+        }
+    }
+
+    public static boolean isSegmentFile(Path path){
+
+        var name = path.getFileName().toString();
+
+        return name.startsWith("saga-journal-") && name.endsWith(".log");
+    }
+
+    public static int parseId(Path path){
+
+        var name = path.getFileName().toString();
+
+        return Integer.parseInt(name.substring("saga-journal-".length(), name.length() - ".log".length()));
+    }
+
+    public boolean hasRoom(int recordSize){
+
+        return writePosition + recordSize <= buffer.capacity();
+    }
+
+    public ByteBuffer prepare(int bodyLength){
+
+        return buffer.slice(writePosition + RECORD_HEADER_SIZE, bodyLength);
+    }
+
+    public int commit(int bodyLength){
+
+        var offset = writePosition;
+
+        buffer.putInt(offset + Integer.BYTES, checksum(offset + RECORD_HEADER_SIZE, bodyLength));
+        buffer.putInt(offset, bodyLength);
+
+        writePosition = offset + RECORD_HEADER_SIZE + bodyLength;
+        records++;
+
+        return offset;
+    }
+
+    public int readBodyLength(int offset){
+
+        if (offset + RECORD_HEADER_SIZE > buffer.capacity()) {
+
+            return 0;
+        }
+
+        var bodyLength = buffer.getInt(offset);
+
+        if (bodyLength <= 0 || offset + RECORD_HEADER_SIZE + bodyLength > buffer.capacity()) {
+
+            return 0;
+        }
+
+        return buffer.getInt(offset + Integer.BYTES) == checksum(offset + RECORD_HEADER_SIZE, bodyLength) ? bodyLength : 0;
+    }
+
+    public ByteBuffer readBody(int offset, int bodyLength){
+
+        return buffer.slice(offset + RECORD_HEADER_SIZE, bodyLength);
+    }
+
+    public void recover(int writePosition, int records){
+
+        this.writePosition = writePosition;
+        this.records = records;
+    }
+
+    public void force(){
+
+        buffer.force();
+    }
+
+    public void delete() throws IOException {
+
+        Files.deleteIfExists(path);
+    }
+
+    public int getId(){
+
+        return id;
+    }
+
+    public int getRecords(){
+
+        return records;
+    }
+
+    private int checksum(int offset, int length){
+
+        var crc = new CRC32();
+
+        crc.update(buffer.slice(offset, length));
+
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.metrics;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaPriority;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.priority.PriorityLanes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class SagaMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample startRouting(){
+
+        return Timer.start(meterRegistry);
+    }
+
+    public void stopRouting(Timer.Sample sample, String topic){
+
+        sample.stop(meterRegistry.timer("saga.orchestrator.routing", "topic", topic));
+    }
+
+    public void recordTransition(EEventSource source, ESagaStatus status){
+
+        meterRegistry.counter("saga.transitions", "source", source.name(), "status", status.name()).increment();
+    }
+
+    public void recordEndToEnd(Event event, ESagaStatus outcome){
+
+        if (event.getCreatedAt() == null) {
+
+            return;
+        }
+
+        var latency = Duration.between(event.getCreatedAt(), LocalDateTime.now());
+
+        var lane = event.getPriority() == ESagaPriority.HIGH ? PriorityLanes.PRIORITY_LANE : PriorityLanes.STANDARD_LANE;
+
+        meterRegistry.timer("saga.end.to.end", "outcome", outcome.name(), "lane", lane).record(latency);
+    }
+
+    public void recordPayloadSize(String topic, int bytes){
+
+        meterRegistry.summary("saga.wire.bytes", "topic", topic).record(bytes);
+    }
+}
@@ -1,27 +1,67 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.producers;
 
+import br.com.microservices.orchestrated.orchestratorservice.core.codec.EncodedEvent;
+import br.com.microservices.orchestrated.orchestratorservice.core.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.orchestratorservice.core.priority.PriorityLanes;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @AllArgsConstructor
 public class SagaOrchestratorProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private static final List<String> TRACE_HEADERS = List.of("traceparent", "tracestate");
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private final SagaSendPipeline sagaSendPipeline;
+
+    private final SagaMetrics sagaMetrics;
+
+    private final PriorityLanes priorityLanes;
+
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(String baseTopic, String key, EncodedEvent event) {
+
+        var topic = priorityLanes.resolveTopic(baseTopic, event.headers());
+
+        log.info("Sending event to topic {} with {} bytes encoded as {}", topic, event.payload().length, event.codec());
+
+        sagaMetrics.recordPayloadSize(topic, event.payload().length);
 
-    public void sendEvent(String topic, String payload) {
+        return sagaSendPipeline.send(createRecord(topic, key, event));
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> forward(String baseTopic, ConsumerRecord<String, byte[]> source) {
+
+        var topic = priorityLanes.resolveTopic(baseTopic, source.headers());
+
+        log.info("Forwarding event from offset {} of topic {} to topic {} with {} bytes", source.offset(), source.topic(), topic, source.value().length);
+
+        sagaMetrics.recordPayloadSize(topic, source.value().length);
 
-        try {
+        var headers = new RecordHeaders(source.headers().toArray());
+        TRACE_HEADERS.forEach(headers::remove);
 
-            log.info("Sending event to topic {} with data {}", topic, payload);
+        return sagaSendPipeline.send(new ProducerRecord<>(topic, null, source.key(), source.value(), headers));
+    }
+
+    public void flush() {
+
+        kafkaTemplate.flush();
+    }
 
-            kafkaTemplate.send(topic, payload);
-        } catch (Exception e) {
+    private ProducerRecord<String, byte[]> createRecord(String topic, String key, EncodedEvent event) {
 
-            log.error("Error trying to send data to topic {} with data {}", topic, payload, e);
-        }
+        return new ProducerRecord<>(topic, null, key, event.payload(), new RecordHeaders(event.headers()));
     }
 }
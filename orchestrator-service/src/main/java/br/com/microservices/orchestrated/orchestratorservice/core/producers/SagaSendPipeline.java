@@ -0,0 +1,317 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.producers;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaSendPipeline {
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, KeyLane> blockedKeys = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> successLatency = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> failureLatency = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${saga.producer.max-in-flight:1000}")
+    private int maxInFlight;
+
+    @Value("${saga.producer.retries:3}")
+    private int retries;
+
+    @Value("${saga.producer.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    private Semaphore inFlight;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start(){
+
+        inFlight = new Semaphore(maxInFlight);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+            var thread = new Thread(runnable, "saga-send-pipeline");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        Gauge.builder("saga.producer.in.flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+                .register(meterRegistry);
+
+        Gauge.builder("saga.producer.blocked.keys", blockedKeys, Map::size)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop(){
+
+        scheduler.shutdownNow();
+
+        synchronized (blockedKeys) {
+
+            blockedKeys.values().forEach(lane -> lane.waiting.forEach(pending -> pending.result.completeExceptionally(
+                    new IllegalStateException("Send pipeline stopped before the record was sent"))));
+
+            blockedKeys.clear();
+        }
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record){
+
+        if (kafkaTemplate.inTransaction()) {
+
+            return kafkaTemplate.send(record);
+        }
+
+        var result = new CompletableFuture<SendResult<String, byte[]>>();
+
+        try {
+
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            result.completeExceptionally(e);
+
+            return result;
+        }
+
+        var pending = new PendingSend(record, result, sequence.incrementAndGet());
+
+        if (!holdBack(pending)) {
+
+            attempt(pending);
+        }
+
+        return result;
+    }
+
+    private boolean holdBack(PendingSend pending){
+
+        var key = laneKey(pending.record);
+
+        if (key == null) {
+
+            return false;
+        }
+
+        synchronized (blockedKeys) {
+
+            var lane = blockedKeys.get(key);
+
+            if (lane == null) {
+
+                return false;
+            }
+
+            lane.waiting.add(pending);
+
+            return true;
+        }
+    }
+
+    private void attempt(PendingSend pending){
+
+        var record = pending.record;
+        var startedAt = System.nanoTime();
+
+        CompletableFuture<SendResult<String, byte[]>> send;
+
+        try {
+
+            send = kafkaTemplate.send(copy(record));
+        } catch (Exception e) {
+
+            send = CompletableFuture.failedFuture(e);
+        }
+
+        send.whenComplete((sendResult, exception) -> {
+
+            sendLatency(record.topic(), exception == null).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            if (exception == null) {
+
+                inFlight.release();
+                pending.result.complete(sendResult);
+                releaseLane(pending);
+
+                return;
+            }
+
+            if (pending.attempts < retries && !scheduler.isShutdown()) {
+
+                pending.attempts++;
+
+                if (blockForRetry(pending)) {
+
+                    log.warn("Error trying to send data to topic {}, retry {} of {}", record.topic(), pending.attempts, retries, exception);
+
+                    scheduler.schedule(() -> attempt(pending), retryBackoffMs * pending.attempts, TimeUnit.MILLISECONDS);
+                }
+
+                return;
+            }
+
+            inFlight.release();
+
+            meterRegistry.counter("saga.producer.send.failures", "topic", record.topic()).increment();
+
+            log.error("Error trying to send data to topic {} after {} retries", record.topic(), retries, exception);
+
+            pending.result.completeExceptionally(exception);
+            releaseLane(pending);
+        });
+    }
+
+    private boolean blockForRetry(PendingSend pending){
+
+        var key = laneKey(pending.record);
+
+        if (key == null) {
+
+            return true;
+        }
+
+        synchronized (blockedKeys) {
+
+            var lane = blockedKeys.get(key);
+
+            if (lane == null) {
+
+                blockedKeys.put(key, new KeyLane(pending));
+
+                return true;
+            }
+
+            if (lane.owner == pending) {
+
+                return true;
+            }
+
+            lane.waiting.add(pending);
+
+            return false;
+        }
+    }
+
+    private void releaseLane(PendingSend pending){
+
+        var key = laneKey(pending.record);
+
+        if (key == null) {
+
+            return;
+        }
+
+        PendingSend next;
+
+        synchronized (blockedKeys) {
+
+            var lane = blockedKeys.get(key);
+
+            if (lane == null || lane.owner != pending) {
+
+                return;
+            }
+
+            next = lane.waiting.poll();
+
+            if (next == null) {
+
+                blockedKeys.remove(key);
+
+                return;
+            }
+
+            lane.owner = next;
+        }
+
+        scheduler.execute(() -> attempt(next));
+    }
+
+    private String laneKey(ProducerRecord<String, byte[]> record){
+
+        return record.key() == null ? null : record.topic() + '\u0000' + record.key();
+    }
+
+    private ProducerRecord<String, byte[]> copy(ProducerRecord<String, byte[]> record){
+
+        return new ProducerRecord<>(record.topic(), record.partition(), record.key(), record.value(), new RecordHeaders(record.headers().toArray()));
+    }
+
+    private Timer sendLatency(String topic, boolean success){
+
+        var timers = success ? successLatency : failureLatency;
+
+        return timers.computeIfAbsent(topic, key -> Timer.builder("saga.producer.send.latency")
+                .tag("topic", key)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static final class PendingSend {
+
+        private final ProducerRecord<String, byte[]> record;
+
+        private final CompletableFuture<SendResult<String, byte[]>> result;
+
+        private final long sequence;
+
+        private int attempts;
+
+        private PendingSend(ProducerRecord<String, byte[]> record, CompletableFuture<SendResult<String, byte[]>> result, long sequence){
+
+            this.record = record;
+            this.result = result;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class KeyLane {
+
+        private final Queue<PendingSend> waiting = new PriorityQueue<>(Comparator.comparingLong(pending -> pending.sequence));
+
+        private PendingSend owner;
+
+        private KeyLane(PendingSend owner){
+
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import org.apache.kafka.common.security.oauthbearer.internals.secured.ValidateException;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.BASE_ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.NOTIFY_ENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.START_SAGA;
+
+public final class SagaDefinition {
+
+    private static final Set<ETopics> RESERVED_TOPICS = EnumSet.of(START_SAGA, BASE_ORCHESTRATOR, FINISH_SUCCESS, FINISH_FAIL, NOTIFY_ENDING);
+
+    private final List<List<SagaStep>> stages;
+
+    private SagaDefinition(List<List<SagaStep>> stages){
+
+        this.stages = stages;
+    }
+
+    public static Builder builder(){
+
+        return new Builder();
+    }
+
+    public List<List<SagaStep>> getStages(){
+
+        return stages;
+    }
+
+    public static final class Builder {
+
+        private final List<List<SagaStep>> stages = new ArrayList<>();
+
+        private Builder(){
+
+        }
+
+        public Builder stage(SagaStep... steps){
+
+            stages.add(List.of(steps));
+
+            return this;
+        }
+
+        public SagaDefinition build(){
+
+            if (stages.isEmpty()) {
+
+                throw new ValidateException("Saga definition must have at least one stage");
+            }
+
+            var sources = EnumSet.noneOf(EEventSource.class);
+            var topics = EnumSet.noneOf(ETopics.class);
+
+            stages.forEach(stage -> {
+
+                if (stage.isEmpty()) {
+
+                    throw new ValidateException("Saga stages must have at least one step");
+                }
+
+                stage.forEach(step -> validateStep(step, sources, topics));
+            });
+
+            return new SagaDefinition(List.copyOf(stages));
+        }
+
+        private void validateStep(SagaStep step, Set<EEventSource> sources, Set<ETopics> topics){
+
+            if (step == null || step.source() == null || step.actionTopic() == null || step.compensationTopic() == null) {
+
+                throw new ValidateException("Saga steps must inform source, action topic and compensation topic");
+            }
+
+            if (step.source() == ORCHESTRATOR || !sources.add(step.source())) {
+
+                throw new ValidateException(String.format("Invalid or duplicated saga step for %s", step.source()));
+            }
+
+            if (isInvalidTopic(step.actionTopic(), topics) || isInvalidTopic(step.compensationTopic(), topics)) {
+
+                throw new ValidateException(String.format("Invalid or duplicated topic for saga step %s", step.source()));
+            }
+        }
+
+        private boolean isInvalidTopic(ETopics topic, Set<ETopics> topics){
+
+            return RESERVED_TOPICS.contains(topic) || !topics.add(topic);
+        }
+    }
+}
@@ -1,58 +1,142 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.saga;
 
 import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ECompensationMode;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.orchestratorservice.core.metrics.SagaMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.security.oauthbearer.internals.secured.ValidateException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
-import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.EVENT_SOURCE_INDEX;
-import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.SAGA_HANDLER;
-import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.SAGA_STATUS_INDEX;
-import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.TOPIC_INDEX;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.FAILED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.SAGA_DEFINITION;
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Component
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SagaExecutionController {
 
-    public ETopics getNextTopic(Event event){
+    private static final String JOIN_WAVE_PATTERN = "%s_%s";
+    private static final String COMPENSATION_FAN_OUT_WAVE = "COMPENSATION_FAN_OUT";
 
-        if(isEmpty(event.getStatus()) || isEmpty(event.getSource())){
+    private final SagaJoinRegistry sagaJoinRegistry;
 
-            throw new ValidateException("Source and status must be informed");
+    private final SagaMetrics sagaMetrics;
+
+    @Value("${saga.compensation.mode:SEQUENTIAL}")
+    private ECompensationMode compensationMode;
+
+    private SagaTransitionTable transitionTable;
+
+    @PostConstruct
+    public void compile(){
+
+        transitionTable = SagaTransitionTable.compile(SAGA_DEFINITION, compensationMode);
+    }
+
+    public List<ETopics> getNextTopics(Event event){
+
+        validateSourceAndStatus(event);
+
+        List<ETopics> topics = findTopics(event);
+
+        sagaMetrics.recordTransition(event.getSource(), event.getStatus());
+
+        expectCompensations(event.getTransactionId(), event.getStatus(), topics);
+
+        logCurrentSaga(event, topics);
+
+        return topics;
+    }
+
+    public List<ETopics> getNextTopics(SagaRoutingHeaders headers){
+
+        List<ETopics> topics = transitionTable.find(headers.source(), headers.status());
+
+        sagaMetrics.recordTransition(headers.source(), headers.status());
+
+        expectCompensations(headers.transactionId(), headers.status(), topics);
+
+        log.info("### CURRENT SAGA: {} | {} | NEXT TOPICS {} | ORDER ID: {} | TRANSACTION ID: {}",
+                headers.source(), headers.status(), topics, headers.orderId(), headers.transactionId());
+
+        return topics;
+    }
+
+    public boolean needsJoin(SagaRoutingHeaders headers){
+
+        return transitionTable.getWidth(headers.source()) > 1 || isCompensationFanOutReply(headers.status());
+    }
+
+    public Optional<Event> joinParallelSteps(Event event){
+
+        validateSourceAndStatus(event);
+
+        if (isCompensationFanOutReply(event.getStatus())) {
+
+            return sagaJoinRegistry.joinExpected(event.getTransactionId(), COMPENSATION_FAN_OUT_WAVE, event);
         }
 
-        ETopics topic = findTopic(event);
+        var width = transitionTable.getWidth(event.getSource());
+
+        if (width <= 1) {
+
+            return Optional.of(event);
+        }
+
+        log.info("### JOINING SAGA STEP: {} | {} | WAITING {} REPLIES | {}", event.getSource(), event.getStatus(), width, createSagaId(event));
+
+        return sagaJoinRegistry.join(event.getTransactionId(), createJoinWave(event), event, width);
+    }
+
+    public Optional<SagaStep> findStep(ETopics topic){
+
+        return transitionTable.findStep(topic);
+    }
 
-        logCurrentSaga(event, topic);
+    private void expectCompensations(String transactionId, ESagaStatus status, List<ETopics> topics){
 
-        return topic;
+        if (compensationMode == ECompensationMode.PARALLEL && status != SUCCESS && topics.size() > 1) {
+
+            sagaJoinRegistry.expect(transactionId, COMPENSATION_FAN_OUT_WAVE, topics.size());
+        }
+    }
+
+    private boolean isCompensationFanOutReply(ESagaStatus status){
+
+        return compensationMode == ECompensationMode.PARALLEL && status == FAILED;
+    }
+
+    private void validateSourceAndStatus(Event event){
+
+        if(isEmpty(event.getStatus()) || isEmpty(event.getSource())){
+
+            throw new ValidateException("Source and status must be informed");
+        }
     }
 
-    private ETopics findTopic(Event event){
+    private List<ETopics> findTopics(Event event){
 
-        return (ETopics) Arrays.stream(SAGA_HANDLER)
-                .filter(row -> isEventValid(event, row))
-                .map(i -> i[TOPIC_INDEX])
-                .findFirst()
-                .orElseThrow(() -> {throw new ValidateException("Topic not found");});
+        return transitionTable.find(event.getSource(), event.getStatus());
     }
 
-    private Boolean isEventValid(Event event, Object[] row){
+    private String createJoinWave(Event event){
 
-        var source = row[EVENT_SOURCE_INDEX];
-        var status = row[SAGA_STATUS_INDEX];
+        var wave = FAILED.equals(event.getStatus()) ? "COMPENSATION" : "ACTION";
 
-        return event.getSource().equals(source)
-                && event.getStatus().equals(status);
+        return String.format(JOIN_WAVE_PATTERN, transitionTable.getStage(event.getSource()), wave);
     }
 
-    private void logCurrentSaga(Event event, ETopics eTopic){
+    private void logCurrentSaga(Event event, List<ETopics> eTopics){
 
         var sagaId = createSagaId(event);
 
@@ -60,9 +144,9 @@ public class SagaExecutionController {
 
         switch (event.getStatus()){
 
-            case SUCCESS -> log.info("### CURRENT SAGA: {} | SUCCESS | NEXT TOPIC {} | {}", source, eTopic, sagaId);
-            case ROLLBACK_PENDING -> log.info("### CURRENT SAGA: {} | SENDING ROLLBACK PENDING SERVICE | NEXT TOPIC {} | {}", source, eTopic, sagaId);
-            case FAILED -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK PREVIOUS SERVICE | NEXT TOPIC {} | {}", source, eTopic, sagaId);
+            case SUCCESS -> log.info("### CURRENT SAGA: {} | SUCCESS | NEXT TOPICS {} | {}", source, eTopics, sagaId);
+            case ROLLBACK_PENDING -> log.info("### CURRENT SAGA: {} | SENDING ROLLBACK PENDING SERVICE | NEXT TOPICS {} | {}", source, eTopics, sagaId);
+            case FAILED -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK PREVIOUS SERVICE | NEXT TOPICS {} | {}", source, eTopics, sagaId);
         }
     }
 
@@ -0,0 +1,164 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+
+@Slf4j
+@Component
+public class SagaJoinRegistry {
+
+    private final Map<String, PendingJoin> pendingJoins = new ConcurrentHashMap<>();
+
+    public Optional<Event> join(String transactionId, String wave, Event event, int width){
+
+        if (width <= 1) {
+
+            return Optional.of(event);
+        }
+
+        var completed = new ArrayList<Event>(width);
+
+        pendingJoins.compute(transactionId, (key, pending) -> {
+
+            var current = pending == null || !pending.wave().equals(wave)
+                    ? new PendingJoin(wave, width, new ArrayList<>(width))
+                    : pending;
+
+            return addBranch(current, event, completed);
+        });
+
+        return completed.isEmpty() ? Optional.empty() : Optional.of(merge(completed));
+    }
+
+    public void expect(String transactionId, String wave, int width){
+
+        if (width <= 1) {
+
+            return;
+        }
+
+        var expected = new PendingJoin(wave, width, new ArrayList<>(width));
+        var previous = pendingJoins.putIfAbsent(transactionId, expected);
+
+        if (previous != null && !previous.wave().equals(wave)) {
+
+            log.warn("Replacing open join {} with {} replies of {} for transaction {} by join {}",
+                    previous.wave(), previous.branches().size(), previous.width(), transactionId, wave);
+
+            pendingJoins.replace(transactionId, previous, expected);
+        }
+    }
+
+    public Optional<Event> joinExpected(String transactionId, String wave, Event event){
+
+        var completed = new ArrayList<Event>();
+        var passThrough = new boolean[1];
+
+        pendingJoins.compute(transactionId, (key, pending) -> {
+
+            if (pending == null || !pending.wave().equals(wave)) {
+
+                passThrough[0] = true;
+
+                return pending;
+            }
+
+            return addBranch(pending, event, completed);
+        });
+
+        if (passThrough[0]) {
+
+            return Optional.of(event);
+        }
+
+        return completed.isEmpty() ? Optional.empty() : Optional.of(merge(completed));
+    }
+
+    public void discard(String transactionId){
+
+        pendingJoins.remove(transactionId);
+    }
+
+    public int getPendingJoins(){
+
+        return pendingJoins.size();
+    }
+
+    private PendingJoin addBranch(PendingJoin pending, Event event, List<Event> completed){
+
+        pending.branches().removeIf(branch -> branch.getSource() == event.getSource());
+        pending.branches().add(event);
+
+        if (pending.branches().size() < pending.width()) {
+
+            return pending;
+        }
+
+        completed.addAll(pending.branches());
+
+        return null;
+    }
+
+    private Event merge(List<Event> branches){
+
+        var merged = branches
+                .stream()
+                .filter(branch -> branch.getStatus() != SUCCESS)
+                .findFirst()
+                .orElse(branches.get(branches.size() - 1));
+
+        merged.setEventHistory(mergeHistory(branches));
+
+        branches.forEach(branch -> mergePayload(merged.getPayload(), branch.getPayload()));
+
+        return merged;
+    }
+
+    private List<History> mergeHistory(List<Event> branches){
+
+        return branches
+                .stream()
+                .map(Event::getEventHistory)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .distinct()
+                .sorted(Comparator.comparing(History::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private void mergePayload(Order target, Order source){
+
+        if (target == null || source == null) {
+
+            return;
+        }
+
+        if (target.getTotalAmount() == null) {
+
+            target.setTotalAmount(source.getTotalAmount());
+        }
+
+        if (target.getTotalItems() == null) {
+
+            target.setTotalItems(source.getTotalItems());
+        }
+    }
+
+    private record PendingJoin(String wave, int width, List<Event> branches) {
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.util.Optional;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil.CODEC_HEADER;
+import static br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil.ORDER_ID_HEADER;
+import static br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil.SOURCE_HEADER;
+import static br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil.STATUS_HEADER;
+import static br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil.TRANSACTION_ID_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public record SagaRoutingHeaders(String codec,
+                                 EEventSource source,
+                                 ESagaStatus status,
+                                 String transactionId,
+                                 String orderId) {
+
+    public static Optional<SagaRoutingHeaders> from(Headers headers){
+
+        var source = read(headers, SOURCE_HEADER);
+        var status = read(headers, STATUS_HEADER);
+        var transactionId = read(headers, TRANSACTION_ID_HEADER);
+
+        if (source == null || status == null || transactionId == null) {
+
+            return Optional.empty();
+        }
+
+        try {
+
+            return Optional.of(new SagaRoutingHeaders(read(headers, CODEC_HEADER),
+                    EEventSource.valueOf(source),
+                    ESagaStatus.valueOf(status),
+                    transactionId,
+                    read(headers, ORDER_ID_HEADER)));
+        } catch (IllegalArgumentException e) {
+
+            return Optional.empty();
+        }
+    }
+
+    private static String read(Headers headers, String key){
+
+        Header header = headers.lastHeader(key);
+
+        return header == null ? null : new String(header.value(), UTF_8);
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Order;
+import br.com.microservices.orchestrated.orchestratorservice.core.journal.SagaJournal;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaStateStore {
+
+    private final Map<String, Event> snapshots = new ConcurrentHashMap<>();
+
+    private final SagaJournal sagaJournal;
+
+    private final JsonUtil jsonUtil;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.wire.compact:true}")
+    private boolean compact;
+
+    @Value("${saga.wire.pass-through:false}")
+    private boolean passThrough;
+
+    @PostConstruct
+    public void registerMetrics(){
+
+        meterRegistry.gaugeMapSize("saga.state.snapshots", List.of(), snapshots);
+
+        if (passThrough && compact) {
+
+            log.warn("Saga pass-through is ignored while saga.wire.compact is enabled");
+        }
+    }
+
+    public boolean canPassThrough(SagaRoutingHeaders headers){
+
+        return passThrough && !compact && (headers.codec() == null || JsonUtil.JSON_CODEC.equals(headers.codec()));
+    }
+
+    public void save(Event event){
+
+        snapshots.put(event.getTransactionId(), event);
+    }
+
+    public void release(String transactionId){
+
+        snapshots.remove(transactionId);
+    }
+
+    public Event restore(Event stepResult){
+
+        findSnapshot(stepResult.getTransactionId()).ifPresent(snapshot -> {
+
+            stepResult.setEventHistory(mergeHistory(snapshot.getEventHistory(), stepResult.getEventHistory()));
+            stepResult.setPayload(mergePayload(snapshot.getPayload(), stepResult.getPayload()));
+            stepResult.setPriority(coalesce(stepResult.getPriority(), snapshot.getPriority()));
+        });
+
+        return stepResult;
+    }
+
+    public Event createStepCommand(Event event){
+
+        if (!compact) {
+
+            return event;
+        }
+
+        return Event.builder()
+                .id(event.getId())
+                .transactionId(event.getTransactionId())
+                .orderId(event.getOrderId())
+                .payload(event.getPayload())
+                .source(event.getSource())
+                .status(event.getStatus())
+                .priority(event.getPriority())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    private Optional<Event> findSnapshot(String transactionId){
+
+        var snapshot = snapshots.get(transactionId);
+
+        if (snapshot != null) {
+
+            return Optional.of(snapshot);
+        }
+
+        return sagaJournal
+                .findLatest(transactionId)
+                .map(entry -> jsonUtil.decode(entry.codec(), entry.payload()));
+    }
+
+    private List<History> mergeHistory(List<History> snapshot, List<History> stepResult){
+
+        return Stream.of(snapshot, stepResult)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private Order mergePayload(Order snapshot, Order stepResult){
+
+        if (snapshot == null) {
+
+            return stepResult;
+        }
+
+        if (stepResult == null) {
+
+            return snapshot;
+        }
+
+        return Order.builder()
+                .id(coalesce(stepResult.getId(), snapshot.getId()))
+                .products(coalesce(stepResult.getProducts(), snapshot.getProducts()))
+                .createdAt(coalesce(stepResult.getCreatedAt(), snapshot.getCreatedAt()))
+                .transactionId(coalesce(stepResult.getTransactionId(), snapshot.getTransactionId()))
+                .totalAmount(coalesce(stepResult.getTotalAmount(), snapshot.getTotalAmount()))
+                .totalItems(coalesce(stepResult.getTotalItems(), snapshot.getTotalItems()))
+                .build();
+    }
+
+    private <T> T coalesce(T value, T fallback){
+
+        return value != null ? value : fallback;
+    }
+}
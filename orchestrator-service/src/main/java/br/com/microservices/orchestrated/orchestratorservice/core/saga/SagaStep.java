@@ -0,0 +1,17 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+
+public record SagaStep(EEventSource source, ETopics actionTopic, ETopics compensationTopic, boolean sequentialCompensation) {
+
+    public static SagaStep step(EEventSource source, ETopics actionTopic, ETopics compensationTopic){
+
+        return new SagaStep(source, actionTopic, compensationTopic, false);
+    }
+
+    public SagaStep compensateSequentially(){
+
+        return new SagaStep(source, actionTopic, compensationTopic, true);
+    }
+}
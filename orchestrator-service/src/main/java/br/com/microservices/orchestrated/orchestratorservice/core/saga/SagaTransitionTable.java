@@ -0,0 +1,172 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ECompensationMode;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import org.apache.kafka.common.security.oauthbearer.internals.secured.ValidateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.FAILED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_SUCCESS;
+
+public final class SagaTransitionTable {
+
+    private static final int NO_STAGE = -1;
+
+    private final List<ETopics>[][] transitions;
+
+    private final int[] stages;
+
+    private final int[] widths;
+
+    private final SagaStep[] stepsByTopic;
+
+    private SagaTransitionTable(List<ETopics>[][] transitions, int[] stages, int[] widths, SagaStep[] stepsByTopic){
+
+        this.transitions = transitions;
+        this.stages = stages;
+        this.widths = widths;
+        this.stepsByTopic = stepsByTopic;
+    }
+
+    public static SagaTransitionTable compile(SagaDefinition definition){
+
+        return compile(definition, ECompensationMode.SEQUENTIAL);
+    }
+
+    public static SagaTransitionTable compile(SagaDefinition definition, ECompensationMode compensationMode){
+
+        var sourceCount = EEventSource.values().length;
+        var transitions = newTransitions(sourceCount, ESagaStatus.values().length);
+        var stages = new int[sourceCount];
+        var widths = new int[sourceCount];
+        var stepsByTopic = new SagaStep[ETopics.values().length];
+
+        Arrays.fill(stages, NO_STAGE);
+        Arrays.fill(widths, 1);
+
+        var sagaStages = definition.getStages();
+        var lastStage = sagaStages.size() - 1;
+        var segmentStarts = findCompensationSegmentStarts(sagaStages, compensationMode);
+
+        put(transitions, ORCHESTRATOR, SUCCESS, topics(sagaStages.get(0), SagaStep::actionTopic));
+        put(transitions, ORCHESTRATOR, FAILED, List.of(FINISH_FAIL));
+
+        for (int stage = 0; stage <= lastStage; stage++) {
+
+            var steps = sagaStages.get(stage);
+
+            var next = stage < lastStage
+                    ? topics(sagaStages.get(stage + 1), SagaStep::actionTopic)
+                    : List.of(FINISH_SUCCESS);
+
+            var segmentStart = segmentStarts[stage];
+
+            var compensation = compensationTopics(sagaStages, segmentStart, stage);
+
+            var previousCompensation = segmentStart > 0
+                    ? compensationTopics(sagaStages, segmentStarts[segmentStart - 1], segmentStart - 1)
+                    : List.of(FINISH_FAIL);
+
+            for (SagaStep step : steps) {
+
+                stages[step.source().ordinal()] = stage;
+                widths[step.source().ordinal()] = steps.size();
+                stepsByTopic[step.actionTopic().ordinal()] = step;
+                stepsByTopic[step.compensationTopic().ordinal()] = step;
+
+                put(transitions, step.source(), SUCCESS, next);
+                put(transitions, step.source(), ROLLBACK_PENDING, compensation);
+                put(transitions, step.source(), FAILED, previousCompensation);
+            }
+        }
+
+        return new SagaTransitionTable(transitions, stages, widths, stepsByTopic);
+    }
+
+    public List<ETopics> find(EEventSource source, ESagaStatus status){
+
+        var topics = transitions[source.ordinal()][status.ordinal()];
+
+        if (topics == null) {
+
+            throw new ValidateException("Topic not found");
+        }
+
+        return topics;
+    }
+
+    public Optional<SagaStep> findStep(ETopics topic){
+
+        return Optional.ofNullable(stepsByTopic[topic.ordinal()]);
+    }
+
+    public int getStage(EEventSource source){
+
+        return stages[source.ordinal()];
+    }
+
+    public int getWidth(EEventSource source){
+
+        return widths[source.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ETopics>[][] newTransitions(int sourceCount, int statusCount){
+
+        return (List<ETopics>[][]) new List<?>[sourceCount][statusCount];
+    }
+
+    private static void put(List<ETopics>[][] transitions, EEventSource source, ESagaStatus status, List<ETopics> topics){
+
+        transitions[source.ordinal()][status.ordinal()] = topics;
+    }
+
+    private static int[] findCompensationSegmentStarts(List<List<SagaStep>> sagaStages, ECompensationMode compensationMode){
+
+        var segmentStarts = new int[sagaStages.size()];
+
+        for (int stage = 1; stage < sagaStages.size(); stage++) {
+
+            var breaksSegment = compensationMode == ECompensationMode.SEQUENTIAL
+                    || isSequentialCompensation(sagaStages.get(stage))
+                    || isSequentialCompensation(sagaStages.get(stage - 1));
+
+            segmentStarts[stage] = breaksSegment ? stage : segmentStarts[stage - 1];
+        }
+
+        return segmentStarts;
+    }
+
+    private static boolean isSequentialCompensation(List<SagaStep> steps){
+
+        return steps.stream().anyMatch(SagaStep::sequentialCompensation);
+    }
+
+    private static List<ETopics> compensationTopics(List<List<SagaStep>> sagaStages, int fromStage, int toStage){
+
+        var topics = new ArrayList<ETopics>();
+
+        for (int stage = toStage; stage >= fromStage; stage--) {
+
+            topics.addAll(topics(sagaStages.get(stage), SagaStep::compensationTopic));
+        }
+
+        return List.copyOf(topics);
+    }
+
+    private static List<ETopics> topics(List<SagaStep> steps, Function<SagaStep, ETopics> topic){
+
+        return steps.stream().map(topic).toList();
+    }
+}
@@ -2,19 +2,35 @@ package br.com.microservices.orchestrated.orchestratorservice.core.services;
 
 import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
 import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.inspection.SagaIndex;
+import br.com.microservices.orchestrated.orchestratorservice.core.journal.SagaJournal;
+import br.com.microservices.orchestrated.orchestratorservice.core.metrics.SagaMetrics;
 import br.com.microservices.orchestrated.orchestratorservice.core.producers.SagaOrchestratorProducer;
 import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaRoutingHeaders;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaStateStore;
+import br.com.microservices.orchestrated.orchestratorservice.core.timeout.SagaTimeoutService;
 import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.CONTINUED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.FINISHED_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.FINISHED_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.STARTED;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.FAILED;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil.JSON_CODEC;
 
 @Service
 @Slf4j
@@ -27,20 +43,30 @@ public class OrchestratorService {
 
     private final SagaExecutionController sagaExecutionController;
 
-    public void startSaga(Event event){
+    private final SagaJournal sagaJournal;
+
+    private final SagaTimeoutService sagaTimeoutService;
+
+    private final SagaStateStore sagaStateStore;
+
+    private final SagaMetrics sagaMetrics;
+
+    private final SagaIndex sagaIndex;
+
+    public CompletableFuture<Void> startSaga(Event event){
 
         event.setSource(ORCHESTRATOR);
         event.setStatus(SUCCESS);
 
-        var topic = this.getTopic(event);
+        var topics = this.getTopics(event);
 
         log.info("SAGA STARTED");
         addHistory(event, "Saga started");
 
-        sagaOrchestratorProducer.sendEvent(topic.getTopic(), jsonUtil.toJson(event));
+        return sendToTopics(topics, event, STARTED);
     }
 
-    public void finishSagaSuccess(Event event){
+    public CompletableFuture<Void> finishSagaSuccess(Event event){
 
         event.setSource(ORCHESTRATOR);
         event.setStatus(SUCCESS);
@@ -48,15 +74,19 @@ public class OrchestratorService {
         log.info("SAGA FINISHED SUCCESSFULLY FOR EVENT {}", event.getId());
         addHistory(event, "Saga finished");
 
-        notifyFinishedSaga(event);
+        sagaMetrics.recordEndToEnd(event, SUCCESS);
+
+        return notifyFinishedSaga(event, FINISHED_SUCCESS);
     }
 
-    private void notifyFinishedSaga(Event event){
+    private CompletableFuture<Void> notifyFinishedSaga(Event event, EJournalRecordType recordType){
+
+        sagaStateStore.release(event.getTransactionId());
 
-        sagaOrchestratorProducer.sendEvent(ETopics.NOTIFY_ENDING.getTopic(), jsonUtil.toJson(event));
+        return sendToTopics(List.of(ETopics.NOTIFY_ENDING), event, recordType);
     }
 
-    public void finishSagaFailed(Event event){
+    public CompletableFuture<Void> finishSagaFailed(Event event){
 
         event.setSource(ORCHESTRATOR);
         event.setStatus(FAILED);
@@ -64,22 +94,115 @@ public class OrchestratorService {
         log.info("SAGA FINISHED WITH ERRORS FOR EVENT {}", event.getId());
         addHistory(event, "Saga finished with errors");
 
-        notifyFinishedSaga(event);
+        sagaMetrics.recordEndToEnd(event, FAILED);
+
+        return notifyFinishedSaga(event, FINISHED_FAIL);
+    }
+
+    public CompletableFuture<Void> continueSaga(Event event){
+
+        return sagaExecutionController
+                .joinParallelSteps(sagaStateStore.restore(event))
+                .map(joinedEvent -> {
+
+                    List<ETopics> topics = this.getTopics(joinedEvent);
+
+                    log.info("SAGA CONTINUE FOR EVENT {}", joinedEvent.getId());
+
+                    return sendToTopics(topics, joinedEvent, CONTINUED);
+                })
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+
+    public Optional<CompletableFuture<Void>> forwardSaga(ConsumerRecord<String, byte[]> record, SagaRoutingHeaders routingHeaders){
+
+        return Optional
+                .of(routingHeaders)
+                .filter(sagaStateStore::canPassThrough)
+                .filter(headers -> !sagaExecutionController.needsJoin(headers))
+                .map(headers -> forwardToTopics(record, headers));
+    }
+
+    private CompletableFuture<Void> forwardToTopics(ConsumerRecord<String, byte[]> record, SagaRoutingHeaders headers){
+
+        var topics = sagaExecutionController.getNextTopics(headers);
+
+        log.info("SAGA FORWARDED FOR TRANSACTION {}", headers.transactionId());
+
+        sagaJournal.append(CONTINUED, headers.transactionId(), headers.source(), headers.status(), codecOf(headers), record.value());
+
+        sagaTimeoutService.schedule(headers.transactionId(), topics);
+
+        sagaIndex.record(headers.transactionId(), headers.orderId(), headers.source(), headers.status(), topics);
+
+        var sends = topics
+                .stream()
+                .map(topic -> sagaOrchestratorProducer.forward(topic.getTopic(), record))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(sends);
     }
 
-    public void continueSaga(Event event){
+    private String codecOf(SagaRoutingHeaders headers){
 
-        ETopics topic = this.getTopic(event);
+        return headers.codec() == null ? JSON_CODEC : headers.codec();
+    }
 
-        log.info("SAGA CONTINUE FOR EVENT {}", event.getId());
+    private List<ETopics> getTopics(Event event){
 
-        sagaOrchestratorProducer.sendEvent(topic.getTopic(), jsonUtil.toJson(event));
+        return sagaExecutionController.getNextTopics(event);
     }
 
-    private ETopics getTopic(Event event){
+    private CompletableFuture<Void> sendToTopics(List<ETopics> topics, Event event, EJournalRecordType recordType){
+
+        var message = jsonUtil.encode(event);
+
+        sagaJournal.append(recordType, event, message);
+
+        sagaTimeoutService.schedule(event.getTransactionId(), topics);
+
+        indexSaga(topics, event, recordType);
+
+        var stepCommand = isFinished(recordType) ? event : createStepCommand(event);
+        var stepMessage = stepCommand == event ? message : jsonUtil.encode(stepCommand);
 
-        return sagaExecutionController.getNextTopic(event);
+        var sends = topics
+                .stream()
+                .map(topic -> sagaOrchestratorProducer.sendEvent(topic.getTopic(), event.getOrderId(), isStep(topic) ? stepMessage : message))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(sends);
     }
+
+    private void indexSaga(List<ETopics> topics, Event event, EJournalRecordType recordType){
+
+        if (isFinished(recordType)) {
+
+            sagaIndex.finish(event.getTransactionId(), event.getSource(), event.getStatus());
+
+            return;
+        }
+
+        sagaIndex.record(event.getTransactionId(), event.getOrderId(), event.getSource(), event.getStatus(), topics);
+    }
+
+    private Event createStepCommand(Event event){
+
+        sagaStateStore.save(event);
+
+        return sagaStateStore.createStepCommand(event);
+    }
+
+    private boolean isStep(ETopics topic){
+
+        return sagaExecutionController.findStep(topic).isPresent();
+    }
+
+    private boolean isFinished(EJournalRecordType recordType){
+
+        return recordType == FINISHED_SUCCESS || recordType == FINISHED_FAIL;
+    }
+
     private void addHistory(Event event, String message) {
 
         History history = History.builder()
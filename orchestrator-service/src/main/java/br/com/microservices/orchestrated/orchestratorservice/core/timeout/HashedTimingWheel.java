@@ -0,0 +1,161 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+
+    private final long startNanos;
+
+    private final int mask;
+
+    private final Timeout<T>[] buckets;
+
+    private long currentTick;
+
+    private int pending;
+
+    public HashedTimingWheel(long tickNanos, int wheelSize, long startNanos){
+
+        if (tickNanos <= 0 || Integer.bitCount(wheelSize) != 1) {
+
+            throw new IllegalArgumentException("Tick must be positive and wheel size a power of two");
+        }
+
+        this.tickNanos = tickNanos;
+        this.startNanos = startNanos;
+        this.mask = wheelSize - 1;
+        this.buckets = newBuckets(wheelSize);
+    }
+
+    public synchronized Timeout<T> arm(T task, long delayNanos){
+
+        var ticks = Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        var timeout = new Timeout<>(task, (ticks - 1) / buckets.length);
+
+        link(timeout, (int) ((currentTick + ticks - 1) & mask));
+        pending++;
+
+        return timeout;
+    }
+
+    public synchronized boolean cancel(Timeout<T> timeout){
+
+        if (timeout.bucket < 0) {
+
+            return false;
+        }
+
+        unlink(timeout);
+        pending--;
+
+        return true;
+    }
+
+    public synchronized List<Timeout<T>> advance(long nowNanos){
+
+        List<Timeout<T>> expired = new ArrayList<>();
+
+        while (startNanos + (currentTick + 1) * tickNanos <= nowNanos) {
+
+            expireBucket((int) (currentTick & mask), expired);
+            currentTick++;
+        }
+
+        return expired;
+    }
+
+    public synchronized int getPending(){
+
+        return pending;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Timeout<T>[] newBuckets(int wheelSize){
+
+        return (Timeout<T>[]) new Timeout<?>[wheelSize];
+    }
+
+    private void expireBucket(int bucket, List<Timeout<T>> expired){
+
+        var timeout = buckets[bucket];
+
+        while (timeout != null) {
+
+            var next = timeout.next;
+
+            if (timeout.remainingRounds <= 0) {
+
+                unlink(timeout);
+                pending--;
+                expired.add(timeout);
+            } else {
+
+                timeout.remainingRounds--;
+            }
+
+            timeout = next;
+        }
+    }
+
+    private void link(Timeout<T> timeout, int bucket){
+
+        var head = buckets[bucket];
+
+        timeout.bucket = bucket;
+        timeout.next = head;
+
+        if (head != null) {
+
+            head.previous = timeout;
+        }
+
+        buckets[bucket] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout){
+
+        if (timeout.previous != null) {
+
+            timeout.previous.next = timeout.next;
+        } else {
+
+            buckets[timeout.bucket] = timeout.next;
+        }
+
+        if (timeout.next != null) {
+
+            timeout.next.previous = timeout.previous;
+        }
+
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    public static final class Timeout<T> {
+
+        private final T task;
+
+        private long remainingRounds;
+
+        private int bucket = -1;
+
+        private Timeout<T> previous;
+
+        private Timeout<T> next;
+
+        private Timeout(T task, long remainingRounds){
+
+            this.task = task;
+            this.remainingRounds = remainingRounds;
+        }
+
+        public T getTask(){
+
+            return task;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.timeout;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.concurrency.StripedSagaExecutor;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dtos.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.journal.SagaJournal;
+import br.com.microservices.orchestrated.orchestratorservice.core.journal.SagaJournalEntry;
+import br.com.microservices.orchestrated.orchestratorservice.core.producers.SagaOrchestratorProducer;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaJoinRegistry;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaStep;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.FAILED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.BASE_ORCHESTRATOR;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaTimeoutService {
+
+    private final Map<String, HashedTimingWheel.Timeout<SagaTimeout>> timeouts = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<EEventSource>> timedOutSources = new ConcurrentHashMap<>();
+
+    private final SagaExecutionController sagaExecutionController;
+
+    private final SagaJoinRegistry sagaJoinRegistry;
+
+    private final SagaJournal sagaJournal;
+
+    private final SagaOrchestratorProducer sagaOrchestratorProducer;
+
+    private final StripedSagaExecutor stripedSagaExecutor;
+
+    private final JsonUtil jsonUtil;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.timeout.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.timeout.step-deadline-ms:30000}")
+    private long stepDeadlineMs;
+
+    @Value("${saga.timeout.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${saga.timeout.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${saga.timeout.stale-reply-retention-ms:600000}")
+    private long staleReplyRetentionMs;
+
+    private HashedTimingWheel<SagaTimeout> wheel;
+
+    private HashedTimingWheel<String> staleReplyExpiry;
+
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void start(){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        var now = System.nanoTime();
+
+        wheel = new HashedTimingWheel<>(TimeUnit.MILLISECONDS.toNanos(tickMs), wheelSize, now);
+        staleReplyExpiry = new HashedTimingWheel<>(TimeUnit.MILLISECONDS.toNanos(tickMs), wheelSize, now);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+            var thread = new Thread(runnable, "saga-timeout-wheel");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+
+        meterRegistry.gauge("saga.timeouts.pending", wheel, HashedTimingWheel::getPending);
+        meterRegistry.gauge("saga.timeouts.stale.transactions", timedOutSources, Map::size);
+    }
+
+    @PreDestroy
+    public void stop(){
+
+        if (ticker != null) {
+
+            ticker.shutdownNow();
+        }
+    }
+
+    public void schedule(String transactionId, List<ETopics> topics){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        if (!isAwaitingParticipant(topics)) {
+
+            cancel(transactionId);
+
+            return;
+        }
+
+        var timeout = wheel.arm(new SagaTimeout(transactionId, topics), TimeUnit.MILLISECONDS.toNanos(stepDeadlineMs));
+        var previous = timeouts.put(transactionId, timeout);
+
+        if (previous != null) {
+
+            wheel.cancel(previous);
+        }
+    }
+
+    public void cancel(String transactionId){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        var previous = timeouts.remove(transactionId);
+
+        if (previous != null) {
+
+            wheel.cancel(previous);
+        }
+    }
+
+    public boolean isStaleReply(String transactionId, EEventSource source, ESagaStatus status){
+
+        if (!enabled || status != SUCCESS) {
+
+            return false;
+        }
+
+        var sources = timedOutSources.get(transactionId);
+
+        return sources != null && sources.contains(source);
+    }
+
+    private boolean isAwaitingParticipant(List<ETopics> topics){
+
+        for (ETopics topic : topics) {
+
+            if (sagaExecutionController.findStep(topic).isPresent()) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void tick(){
+
+        try {
+
+            var now = System.nanoTime();
+
+            wheel.advance(now).forEach(this::expire);
+            staleReplyExpiry.advance(now).forEach(expiry -> timedOutSources.remove(expiry.getTask()));
+        } catch (Exception e) {
+
+            log.error("Error trying to advance saga timeout wheel", e);
+        }
+    }
+
+    private void expire(HashedTimingWheel.Timeout<SagaTimeout> timeout){
+
+        var sagaTimeout = timeout.getTask();
+
+        sagaJournal
+                .findLatest(sagaTimeout.transactionId())
+                .ifPresentOrElse(
+                        entry -> stripedSagaExecutor.execute(decode(entry).getOrderId(), () -> expireOnStripe(timeout, entry)),
+                        () -> {
+
+                            timeouts.remove(sagaTimeout.transactionId(), timeout);
+
+                            log.warn("SAGA TIMED OUT WITHOUT JOURNAL RECORD FOR TRANSACTION {}", sagaTimeout.transactionId());
+                        });
+    }
+
+    private void expireOnStripe(HashedTimingWheel.Timeout<SagaTimeout> timeout, SagaJournalEntry entry){
+
+        var sagaTimeout = timeout.getTask();
+
+        if (!timeouts.remove(sagaTimeout.transactionId(), timeout)) {
+
+            return;
+        }
+
+        sagaJoinRegistry.discard(sagaTimeout.transactionId());
+
+        sagaTimeout.topics().forEach(topic -> compensate(sagaTimeout.transactionId(), entry, topic));
+    }
+
+    private void markTimedOut(String transactionId, EEventSource source){
+
+        var sources = timedOutSources.computeIfAbsent(transactionId, key -> {
+
+            staleReplyExpiry.arm(key, TimeUnit.MILLISECONDS.toNanos(staleReplyRetentionMs));
+
+            return ConcurrentHashMap.newKeySet();
+        });
+
+        sources.add(source);
+    }
+
+    private void compensate(String transactionId, SagaJournalEntry entry, ETopics topic){
+
+        sagaExecutionController.findStep(topic).ifPresent(step -> {
+
+            markTimedOut(transactionId, step.source());
+
+            var event = decode(entry);
+            var status = topic == step.compensationTopic() ? FAILED : ROLLBACK_PENDING;
+
+            event.setSource(step.source());
+            event.setStatus(status);
+
+            addHistory(event, step, topic);
+
+            timeoutsFired(step).increment();
+
+            log.info("SAGA STEP TIMED OUT: {} | {} | TRANSACTION ID: {}", step.source(), topic, event.getTransactionId());
+
+            sagaOrchestratorProducer.sendEvent(BASE_ORCHESTRATOR.getTopic(), event.getOrderId(), jsonUtil.encode(event));
+        });
+    }
+
+    private Event decode(SagaJournalEntry entry){
+
+        return jsonUtil.decode(entry.codec(), entry.payload());
+    }
+
+    private void addHistory(Event event, SagaStep step, ETopics topic){
+
+        History history = History.builder()
+                .source(step.source())
+                .status(event.getStatus())
+                .message(String.format("No reply from %s after %d ms on topic %s", step.source(), stepDeadlineMs, topic.getTopic()))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        event.addToHistory(history);
+    }
+
+    private Counter timeoutsFired(SagaStep step){
+
+        return meterRegistry.counter("saga.timeouts.fired", "source", step.source().name());
+    }
+
+    private record SagaTimeout(String transactionId, List<ETopics> topics) {
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class SagaTracer {
+
+    private static final String INSTRUMENTATION_NAME = "saga";
+
+    private final OpenTelemetry openTelemetry;
+
+    private Tracer tracer;
+
+    @PostConstruct
+    public void start(){
+
+        tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    public Span start(String name){
+
+        return tracer.spanBuilder(name).startSpan();
+    }
+
+    public void recordLag(ConsumerRecord<String, byte[]> record){
+
+        if (record.timestamp() <= 0) {
+
+            return;
+        }
+
+        tracer.spanBuilder("kafka.consumer.lag")
+                .setStartTimestamp(record.timestamp(), TimeUnit.MILLISECONDS)
+                .setAttribute("messaging.destination.name", record.topic())
+                .setAttribute("messaging.kafka.destination.partition", record.partition())
+                .setAttribute("messaging.kafka.message.offset", record.offset())
+                .startSpan()
+                .end();
+    }
+
+    public void recordCompleted(String name, long durationNanos, Attributes attributes, Throwable error){
+
+        var end = Instant.now();
+
+        var span = tracer.spanBuilder(name)
+                .setStartTimestamp(end.minusNanos(durationNanos))
+                .setAllAttributes(attributes)
+                .startSpan();
+
+        if (error != null) {
+
+            fail(span, error);
+        }
+
+        span.end(end);
+    }
+
+    public void fail(Span span, Throwable error){
+
+        span.recordException(error);
+        span.setStatus(StatusCode.ERROR);
+    }
+
+    public Runnable wrap(Runnable task){
+
+        return Context.current().wrap(task);
+    }
+}
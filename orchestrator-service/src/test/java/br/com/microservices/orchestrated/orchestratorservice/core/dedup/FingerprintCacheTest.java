@@ -0,0 +1,82 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FingerprintCacheTest {
+
+    private static final int WAYS = 8;
+
+    @Test
+    void reportsFingerprintsAlreadySeen(){
+
+        var cache = new FingerprintCache(1024);
+
+        assertThat(cache.putIfAbsent(42L)).isFalse();
+        assertThat(cache.putIfAbsent(42L)).isTrue();
+        assertThat(cache.putIfAbsent(43L)).isFalse();
+    }
+
+    @Test
+    void removedFingerprintIsNoLongerSeen(){
+
+        var cache = new FingerprintCache(1024);
+
+        cache.putIfAbsent(42L);
+        cache.remove(42L);
+
+        assertThat(cache.putIfAbsent(42L)).isFalse();
+    }
+
+    @Test
+    void removingAnUnknownFingerprintLeavesOthersInPlace(){
+
+        var cache = new FingerprintCache(1024);
+
+        cache.putIfAbsent(42L);
+        cache.remove(43L);
+
+        assertThat(cache.putIfAbsent(42L)).isTrue();
+    }
+
+    @Test
+    void zeroFingerprintIsStoredDespiteMarkingEmptySlots(){
+
+        var cache = new FingerprintCache(1024);
+
+        assertThat(cache.putIfAbsent(0L)).isFalse();
+        assertThat(cache.putIfAbsent(0L)).isTrue();
+
+        cache.remove(0L);
+
+        assertThat(cache.putIfAbsent(0L)).isFalse();
+    }
+
+    @Test
+    void fullBucketEvictsTheLeastRecentlySeenFingerprint(){
+
+        var cache = new FingerprintCache(0);
+
+        for (long fingerprint = 1; fingerprint <= WAYS; fingerprint++) {
+
+            cache.putIfAbsent(fingerprint);
+        }
+
+        assertThat(cache.putIfAbsent(1L)).isTrue();
+        assertThat(cache.putIfAbsent(WAYS + 1L)).isFalse();
+        assertThat(cache.getEvictions()).isOne();
+        assertThat(cache.putIfAbsent(1L)).isTrue();
+        assertThat(cache.putIfAbsent(WAYS + 1L)).isTrue();
+        assertThat(cache.putIfAbsent(2L)).isFalse();
+        assertThat(cache.getEvictions()).isEqualTo(2);
+    }
+
+    @Test
+    void capacityIsRoundedDownToAPowerOfTwoBuckets(){
+
+        assertThat(new FingerprintCache(0).getCapacity()).isEqualTo(WAYS);
+        assertThat(new FingerprintCache(1024).getCapacity()).isEqualTo(64);
+        assertThat(new FingerprintCache(3000).getCapacity()).isEqualTo(128);
+    }
+}
@@ -0,0 +1,178 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.journal;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.CONTINUED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.FINISHED_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EJournalRecordType.STARTED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil.JSON_CODEC;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaJournalTest {
+
+    private static final int RECORD_SIZE = 55;
+    private static final int RECORDS_PER_SEGMENT = 5;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findLatestReturnsTheLastRecordAppended() throws IOException {
+
+        var journal = openJournal(1024);
+
+        journal.append(STARTED, "tx-1", ORCHESTRATOR, SUCCESS, JSON_CODEC, payload("started"));
+        journal.append(CONTINUED, "tx-1", PAYMENT_SERVICE, ROLLBACK_PENDING, JSON_CODEC, payload("continued"));
+
+        var latest = journal.findLatest("tx-1");
+
+        assertThat(latest).isPresent();
+        assertThat(latest.get().type()).isEqualTo(CONTINUED);
+        assertThat(latest.get().source()).isEqualTo(PAYMENT_SERVICE);
+        assertThat(latest.get().status()).isEqualTo(ROLLBACK_PENDING);
+        assertThat(latest.get().transactionId()).isEqualTo("tx-1");
+        assertThat(latest.get().codec()).isEqualTo(JSON_CODEC);
+        assertThat(latest.get().payload()).asString(UTF_8).isEqualTo("continued");
+        assertThat(journal.findLatest("tx-2")).isEmpty();
+    }
+
+    @Test
+    void finishedSagasAreNoLongerInFlight() throws IOException {
+
+        var journal = openJournal(1024);
+
+        journal.append(STARTED, "tx-1", ORCHESTRATOR, SUCCESS, JSON_CODEC, payload("started"));
+        journal.append(FINISHED_SUCCESS, "tx-1", ORCHESTRATOR, SUCCESS, JSON_CODEC, payload("finished"));
+
+        assertThat(journal.findLatest("tx-1")).isEmpty();
+        assertThat(journal.getInFlightSagas()).isZero();
+    }
+
+    @Test
+    void recoverRebuildsTheIndexFromSegments() throws IOException {
+
+        var journal = openJournal(1024);
+
+        journal.append(STARTED, "tx-1", ORCHESTRATOR, SUCCESS, JSON_CODEC, payload("started-1"));
+        journal.append(STARTED, "tx-2", ORCHESTRATOR, SUCCESS, JSON_CODEC, payload("started-2"));
+        journal.append(CONTINUED, "tx-1", PAYMENT_SERVICE, SUCCESS, JSON_CODEC, payload("continued-1"));
+        journal.append(FINISHED_SUCCESS, "tx-2", ORCHESTRATOR, SUCCESS, JSON_CODEC, payload("finished-2"));
+        journal.close();
+
+        var recovered = openJournal(1024);
+
+        assertThat(recovered.getInFlightSagas()).isEqualTo(1);
+        assertThat(recovered.findLatest("tx-1")).get().extracting(entry -> new String(entry.payload(), UTF_8)).isEqualTo("continued-1");
+        assertThat(recovered.findLatest("tx-2")).isEmpty();
+    }
+
+    @Test
+    void compactionStopsAtTheFirstRetainedSegmentSoTombstonesSurviveRestart() throws IOException {
+
+        var journal = openJournal(RECORD_SIZE * RECORDS_PER_SEGMENT);
+
+        appendAll(journal, STARTED, "live-");
+
+        append(journal, FINISHED_SUCCESS, "live-0");
+
+        for (int i = 0; i < RECORDS_PER_SEGMENT; i++) {
+
+            append(journal, STARTED, "done-" + i);
+            append(journal, FINISHED_SUCCESS, "done-" + i);
+        }
+
+        assertThat(segmentFile(0)).exists();
+        assertThat(segmentFile(1)).exists();
+        assertThat(segmentFile(2)).exists();
+
+        journal.close();
+
+        var recovered = openJournal(RECORD_SIZE * RECORDS_PER_SEGMENT);
+
+        assertThat(recovered.findLatest("live-0")).isEmpty();
+        assertThat(recovered.findLatest("live-1")).isPresent();
+        assertThat(recovered.getInFlightSagas()).isEqualTo(RECORDS_PER_SEGMENT - 1);
+    }
+
+    @Test
+    void compactionRelocatesFewLiveRecordsAndDeletesTheDeadPrefix() throws IOException {
+
+        var journal = openJournal(RECORD_SIZE * RECORDS_PER_SEGMENT);
+
+        append(journal, STARTED, "live-0");
+
+        for (int i = 0; i < RECORDS_PER_SEGMENT - 1; i++) {
+
+            append(journal, STARTED, "done-" + i);
+        }
+
+        for (int i = 0; i < RECORDS_PER_SEGMENT - 1; i++) {
+
+            append(journal, FINISHED_SUCCESS, "done-" + i);
+        }
+
+        append(journal, STARTED, "next-0");
+        append(journal, STARTED, "next-1");
+
+        assertThat(segmentFile(0)).doesNotExist();
+        assertThat(segmentFile(1)).doesNotExist();
+        assertThat(segmentFile(2)).exists();
+
+        journal.close();
+
+        var recovered = openJournal(RECORD_SIZE * RECORDS_PER_SEGMENT);
+
+        assertThat(recovered.getInFlightSagas()).isEqualTo(3);
+        assertThat(recovered.findLatest("live-0")).get().extracting(SagaJournalEntry::type).isEqualTo(STARTED);
+        assertThat(recovered.findLatest("next-0")).isPresent();
+        assertThat(recovered.findLatest("next-1")).isPresent();
+        assertThat(recovered.findLatest("done-0")).isEmpty();
+    }
+
+    private void appendAll(SagaJournal journal, EJournalRecordType type, String prefix){
+
+        for (int i = 0; i < RECORDS_PER_SEGMENT; i++) {
+
+            append(journal, type, prefix + i);
+        }
+    }
+
+    private void append(SagaJournal journal, EJournalRecordType type, String transactionId){
+
+        journal.append(type, transactionId, ORCHESTRATOR, SUCCESS, JSON_CODEC, payload("payload-of-19-bytes"));
+    }
+
+    private SagaJournal openJournal(int segmentSize) throws IOException {
+
+        var journal = new SagaJournal();
+
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "directory", directory);
+        ReflectionTestUtils.setField(journal, "segmentSize", segmentSize);
+
+        journal.recover();
+
+        return journal;
+    }
+
+    private Path segmentFile(int id){
+
+        return directory.resolve(String.format("saga-journal-%010d.log", id));
+    }
+
+    private byte[] payload(String value){
+
+        return value.getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,155 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ECompensationMode;
+import org.apache.kafka.common.security.oauthbearer.internals.secured.ValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.INVENTORY_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PRODUCT_VALIDATION_SERVICE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.FAILED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.INVENTORY_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.INVENTORY_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PAYMENT_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PAYMENT_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PRODUCT_VALIDATION_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PRODUCT_VALIDATION_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.SAGA_DEFINITION;
+import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaStep.step;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SagaTransitionTableTest {
+
+    private static final SagaDefinition PARALLEL_DEFINITION = SagaDefinition.builder()
+            .stage(step(PRODUCT_VALIDATION_SERVICE, PRODUCT_VALIDATION_SUCCESS, PRODUCT_VALIDATION_FAIL))
+            .stage(step(PAYMENT_SERVICE, PAYMENT_SUCCESS, PAYMENT_FAIL),
+                    step(INVENTORY_SERVICE, INVENTORY_SUCCESS, INVENTORY_FAIL))
+            .build();
+
+    @Test
+    void orchestratorStartsTheFirstStageOrFinishesFailed(){
+
+        var table = SagaTransitionTable.compile(SAGA_DEFINITION);
+
+        assertThat(table.find(ORCHESTRATOR, SUCCESS)).containsExactly(PRODUCT_VALIDATION_SUCCESS);
+        assertThat(table.find(ORCHESTRATOR, FAILED)).containsExactly(FINISH_FAIL);
+    }
+
+    @Test
+    void defaultSagaRunsEachStepAfterThePreviousOne(){
+
+        var table = SagaTransitionTable.compile(SAGA_DEFINITION);
+
+        assertThat(table.find(PRODUCT_VALIDATION_SERVICE, SUCCESS)).containsExactly(PAYMENT_SUCCESS);
+        assertThat(table.find(PAYMENT_SERVICE, SUCCESS)).containsExactly(INVENTORY_SUCCESS);
+        assertThat(table.find(INVENTORY_SERVICE, SUCCESS)).containsExactly(FINISH_SUCCESS);
+    }
+
+    @Test
+    void defaultSagaCompensatesOneStepAtATime(){
+
+        var table = SagaTransitionTable.compile(SAGA_DEFINITION);
+
+        assertThat(table.find(PRODUCT_VALIDATION_SERVICE, ROLLBACK_PENDING)).containsExactly(PRODUCT_VALIDATION_FAIL);
+        assertThat(table.find(PRODUCT_VALIDATION_SERVICE, FAILED)).containsExactly(FINISH_FAIL);
+        assertThat(table.find(PAYMENT_SERVICE, ROLLBACK_PENDING)).containsExactly(PAYMENT_FAIL);
+        assertThat(table.find(PAYMENT_SERVICE, FAILED)).containsExactly(PRODUCT_VALIDATION_FAIL);
+        assertThat(table.find(INVENTORY_SERVICE, ROLLBACK_PENDING)).containsExactly(INVENTORY_FAIL);
+        assertThat(table.find(INVENTORY_SERVICE, FAILED)).containsExactly(PAYMENT_FAIL);
+    }
+
+    @Test
+    void defaultSagaHasOneStepPerStage(){
+
+        var table = SagaTransitionTable.compile(SAGA_DEFINITION);
+
+        assertThat(table.getStage(ORCHESTRATOR)).isEqualTo(-1);
+        assertThat(table.getStage(PRODUCT_VALIDATION_SERVICE)).isZero();
+        assertThat(table.getStage(PAYMENT_SERVICE)).isOne();
+        assertThat(table.getStage(INVENTORY_SERVICE)).isEqualTo(2);
+
+        for (var source : List.of(PRODUCT_VALIDATION_SERVICE, PAYMENT_SERVICE, INVENTORY_SERVICE)) {
+
+            assertThat(table.getWidth(source)).isOne();
+        }
+    }
+
+    @Test
+    void parallelStageFansOutAndFinishesTogether(){
+
+        var table = SagaTransitionTable.compile(PARALLEL_DEFINITION);
+
+        assertThat(table.find(PRODUCT_VALIDATION_SERVICE, SUCCESS)).containsExactly(PAYMENT_SUCCESS, INVENTORY_SUCCESS);
+
+        for (var source : List.of(PAYMENT_SERVICE, INVENTORY_SERVICE)) {
+
+            assertThat(table.getStage(source)).isOne();
+            assertThat(table.getWidth(source)).isEqualTo(2);
+            assertThat(table.find(source, SUCCESS)).containsExactly(FINISH_SUCCESS);
+            assertThat(table.find(source, ROLLBACK_PENDING)).containsExactly(PAYMENT_FAIL, INVENTORY_FAIL);
+            assertThat(table.find(source, FAILED)).containsExactly(PRODUCT_VALIDATION_FAIL);
+        }
+    }
+
+    @Test
+    void stepsAreFoundByTheirActionAndCompensationTopics(){
+
+        var table = SagaTransitionTable.compile(SAGA_DEFINITION);
+
+        assertThat(table.findStep(PAYMENT_SUCCESS)).map(SagaStep::source).contains(PAYMENT_SERVICE);
+        assertThat(table.findStep(INVENTORY_FAIL)).map(SagaStep::source).contains(INVENTORY_SERVICE);
+        assertThat(table.findStep(FINISH_SUCCESS)).isEmpty();
+    }
+
+    @Test
+    void unknownTransitionIsRejected(){
+
+        var table = SagaTransitionTable.compile(SAGA_DEFINITION);
+
+        assertThatThrownBy(() -> table.find(ORCHESTRATOR, ROLLBACK_PENDING)).isInstanceOf(ValidateException.class);
+    }
+
+    @Test
+    void parallelCompensationUndoesEveryCompletedStageAtOnce(){
+
+        var table = SagaTransitionTable.compile(SAGA_DEFINITION, ECompensationMode.PARALLEL);
+
+        assertThat(table.find(INVENTORY_SERVICE, ROLLBACK_PENDING)).containsExactly(INVENTORY_FAIL, PAYMENT_FAIL, PRODUCT_VALIDATION_FAIL);
+        assertThat(table.find(INVENTORY_SERVICE, FAILED)).containsExactly(FINISH_FAIL);
+        assertThat(table.find(PRODUCT_VALIDATION_SERVICE, ROLLBACK_PENDING)).containsExactly(PRODUCT_VALIDATION_FAIL);
+    }
+
+    @Test
+    void parallelCompensationOfAParallelStageIncludesBothBranches(){
+
+        var table = SagaTransitionTable.compile(PARALLEL_DEFINITION, ECompensationMode.PARALLEL);
+
+        assertThat(table.find(PAYMENT_SERVICE, ROLLBACK_PENDING)).containsExactly(PAYMENT_FAIL, INVENTORY_FAIL, PRODUCT_VALIDATION_FAIL);
+        assertThat(table.find(PAYMENT_SERVICE, FAILED)).containsExactly(FINISH_FAIL);
+    }
+
+    @Test
+    void sequentialStepSplitsParallelCompensationIntoSegments(){
+
+        var definition = SagaDefinition.builder()
+                .stage(step(PRODUCT_VALIDATION_SERVICE, PRODUCT_VALIDATION_SUCCESS, PRODUCT_VALIDATION_FAIL))
+                .stage(step(PAYMENT_SERVICE, PAYMENT_SUCCESS, PAYMENT_FAIL).compensateSequentially())
+                .stage(step(INVENTORY_SERVICE, INVENTORY_SUCCESS, INVENTORY_FAIL))
+                .build();
+
+        var table = SagaTransitionTable.compile(definition, ECompensationMode.PARALLEL);
+
+        assertThat(table.find(PAYMENT_SERVICE, SUCCESS)).containsExactly(INVENTORY_SUCCESS);
+        assertThat(table.find(INVENTORY_SERVICE, ROLLBACK_PENDING)).containsExactly(INVENTORY_FAIL);
+        assertThat(table.find(INVENTORY_SERVICE, FAILED)).containsExactly(PAYMENT_FAIL);
+        assertThat(table.find(PAYMENT_SERVICE, FAILED)).containsExactly(PRODUCT_VALIDATION_FAIL);
+    }
+}
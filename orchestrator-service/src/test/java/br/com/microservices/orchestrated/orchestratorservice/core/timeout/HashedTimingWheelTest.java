@@ -0,0 +1,108 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.timeout;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final int WHEEL_SIZE = 4;
+
+    @Test
+    void timeoutExpiresOnTheFirstTickAtOrAfterItsDelay(){
+
+        var wheel = new HashedTimingWheel<String>(TICK, WHEEL_SIZE, 0);
+
+        wheel.arm("tx-1", 25);
+
+        assertThat(wheel.advance(29)).isEmpty();
+        assertThat(wheel.advance(30)).extracting(HashedTimingWheel.Timeout::getTask).containsExactly("tx-1");
+        assertThat(wheel.getPending()).isZero();
+    }
+
+    @Test
+    void timeoutLongerThanOneRevolutionWaitsForItsRemainingRounds(){
+
+        var wheel = new HashedTimingWheel<String>(TICK, WHEEL_SIZE, 0);
+
+        wheel.arm("tx-1", 95);
+
+        assertThat(wheel.advance(99)).isEmpty();
+        assertThat(wheel.getPending()).isOne();
+        assertThat(wheel.advance(100)).extracting(HashedTimingWheel.Timeout::getTask).containsExactly("tx-1");
+    }
+
+    @Test
+    void zeroDelayExpiresOnTheNextTick(){
+
+        var wheel = new HashedTimingWheel<String>(TICK, WHEEL_SIZE, 0);
+
+        wheel.arm("tx-1", 0);
+
+        assertThat(wheel.advance(9)).isEmpty();
+        assertThat(wheel.advance(10)).hasSize(1);
+    }
+
+    @Test
+    void delayIsMeasuredFromTheCurrentTick(){
+
+        var wheel = new HashedTimingWheel<String>(TICK, WHEEL_SIZE, 0);
+
+        wheel.advance(50);
+        wheel.arm("tx-1", 20);
+
+        assertThat(wheel.advance(69)).isEmpty();
+        assertThat(wheel.advance(70)).hasSize(1);
+    }
+
+    @Test
+    void timeoutsSharingABucketExpireIndependently(){
+
+        var wheel = new HashedTimingWheel<String>(TICK, WHEEL_SIZE, 0);
+
+        wheel.arm("tx-1", 10);
+        wheel.arm("tx-2", 50);
+
+        assertThat(wheel.advance(10)).extracting(HashedTimingWheel.Timeout::getTask).containsExactly("tx-1");
+        assertThat(wheel.advance(49)).isEmpty();
+        assertThat(wheel.advance(50)).extracting(HashedTimingWheel.Timeout::getTask).containsExactly("tx-2");
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires(){
+
+        var wheel = new HashedTimingWheel<String>(TICK, WHEEL_SIZE, 0);
+
+        var first = wheel.arm("tx-1", 10);
+        wheel.arm("tx-2", 10);
+        var third = wheel.arm("tx-3", 10);
+
+        assertThat(wheel.cancel(first)).isTrue();
+        assertThat(wheel.cancel(third)).isTrue();
+        assertThat(wheel.cancel(first)).isFalse();
+        assertThat(wheel.getPending()).isOne();
+        assertThat(wheel.advance(10)).extracting(HashedTimingWheel.Timeout::getTask).containsExactly("tx-2");
+    }
+
+    @Test
+    void expiredTimeoutCannotBeCancelled(){
+
+        var wheel = new HashedTimingWheel<String>(TICK, WHEEL_SIZE, 0);
+
+        var timeout = wheel.arm("tx-1", 10);
+
+        wheel.advance(10);
+
+        assertThat(wheel.cancel(timeout)).isFalse();
+        assertThat(wheel.getPending()).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveTickAndWheelSizeThatIsNotAPowerOfTwo(){
+
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(0, WHEEL_SIZE, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(TICK, 6, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,21 +1,29 @@
 package br.com.microservices.orchestrated.orderservice.config.kafka;
 
+import br.com.microservices.orchestrated.orderservice.config.exception.EventCodecException;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,8 +33,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    private static final Integer PARTITION_COUNT = 1;
+    private static final String PARTITIONS_PROPERTY = "spring.kafka.partitions.";
     private static final Integer REPLICAS_COUNT = 1;
+    private static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    private final Environment environment;
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootStrapServers;
@@ -37,6 +48,15 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${spring.kafka.partitions.default}")
+    private Integer defaultPartitions;
+
+    @Value("${saga.priority.topic-suffix:-priority}")
+    private String priorityTopicSuffix;
+
+    @Value("${spring.kafka.consumer.isolation-level:read_committed}")
+    private String isolationLevel;
+
     @Value("${spring.kafka.topic.start-saga}")
     private String startSagaTopic;
 
@@ -44,21 +64,40 @@ public class KafkaConfig {
     private String notifyEndingTopic;
 
     @Bean
-    public ConsumerFactory<String, String> consumerFactory(){
+    public ConsumerFactory<String, byte[]> consumerFactory(){
 
         return new DefaultKafkaConsumerFactory<>(consumerProps());
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory(){
+    public ProducerFactory<String, byte[]> producerFactory(){
 
         return new DefaultKafkaProducerFactory<>(producerProps());
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory){
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory){
+
+        var kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setObservationEnabled(true);
+
+        return kafkaTemplate;
+    }
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, byte[]> kafkaTemplate){
 
-        return new KafkaTemplate<>(producerFactory);
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, -1));
+    }
+
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer){
+
+        var errorHandler = new DefaultErrorHandler(deadLetterPublishingRecoverer);
+        errorHandler.addNotRetryableExceptions(EventCodecException.class);
+
+        return errorHandler;
     }
 
     @Bean
@@ -73,11 +112,19 @@ public class KafkaConfig {
         return buildTopic(notifyEndingTopic);
     }
 
+    @Bean
+    public KafkaAdmin.NewTopics priorityTopics(){
+
+        return new KafkaAdmin.NewTopics(
+                buildTopic(startSagaTopic + priorityTopicSuffix),
+                buildTopic(notifyEndingTopic + priorityTopicSuffix));
+    }
+
     private NewTopic buildTopic(String name){
 
         return TopicBuilder.name(name)
                 .replicas(REPLICAS_COUNT)
-                .partitions(PARTITION_COUNT)
+                .partitions(environment.getProperty(PARTITIONS_PROPERTY + name, Integer.class, defaultPartitions))
                 .build();
     }
 
@@ -87,8 +134,9 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootStrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, isolationLevel);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
 
         return props;
     }
@@ -98,7 +146,7 @@ public class KafkaConfig {
         HashMap<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootStrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
 
         return props;
     }
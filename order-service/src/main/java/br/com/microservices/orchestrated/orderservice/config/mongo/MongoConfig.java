@@ -0,0 +1,16 @@
+package br.com.microservices.orchestrated.orderservice.config.mongo;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory mongoDatabaseFactory){
+
+        return new MongoTransactionManager(mongoDatabaseFactory);
+    }
+}
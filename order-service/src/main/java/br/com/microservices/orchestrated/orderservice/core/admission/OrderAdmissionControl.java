@@ -0,0 +1,241 @@
+package br.com.microservices.orchestrated.orderservice.core.admission;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderAdmissionControl {
+
+    private final KafkaAdmin kafkaAdmin;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong completions = new AtomicLong();
+
+    @Value("${saga.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.admission.consumer-groups}")
+    private List<String> consumerGroups;
+
+    @Value("${saga.admission.min-rate:5}")
+    private double minRate;
+
+    @Value("${saga.admission.max-rate:500}")
+    private double maxRate;
+
+    @Value("${saga.admission.rate-step:10}")
+    private double rateStep;
+
+    @Value("${saga.admission.burst:50}")
+    private double burst;
+
+    @Value("${saga.admission.target-lag:1000}")
+    private long targetLag;
+
+    @Value("${saga.admission.saturation-lag:10000}")
+    private long saturationLag;
+
+    @Value("${saga.admission.sample-interval-ms:1000}")
+    private long sampleIntervalMs;
+
+    private TokenBucket bucket;
+
+    private AdminClient adminClient;
+
+    private ScheduledExecutorService sampler;
+
+    private volatile long lag;
+
+    private volatile double completionRate;
+
+    private volatile boolean saturated;
+
+    private long sampledCompletions;
+
+    @PostConstruct
+    public void start(){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        bucket = new TokenBucket(maxRate, burst, System.nanoTime());
+        adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+            var thread = new Thread(runnable, "order-admission-sampler");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        sampler.scheduleWithFixedDelay(this::sample, sampleIntervalMs, sampleIntervalMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("saga.admission.rate", bucket, TokenBucket::getRate).register(meterRegistry);
+        Gauge.builder("saga.admission.lag", this, admission -> admission.lag).register(meterRegistry);
+        Gauge.builder("saga.admission.completion.rate", this, admission -> admission.completionRate).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop(){
+
+        if (sampler != null) {
+
+            sampler.shutdownNow();
+        }
+
+        if (adminClient != null) {
+
+            adminClient.close();
+        }
+    }
+
+    public void acquire(){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        if (saturated) {
+
+            reject(TimeUnit.MILLISECONDS.toSeconds(sampleIntervalMs));
+        }
+
+        var waitNanos = bucket.tryAcquire(System.nanoTime());
+
+        if (waitNanos > 0) {
+
+            reject(TimeUnit.NANOSECONDS.toSeconds(waitNanos));
+        }
+
+        meterRegistry.counter("saga.admission.decisions", "result", "admitted").increment();
+    }
+
+    public void onSagaCompleted(){
+
+        completions.incrementAndGet();
+    }
+
+    private void reject(long retryAfterSeconds){
+
+        meterRegistry.counter("saga.admission.decisions", "result", "rejected").increment();
+
+        throw new AdmissionRejectedException("Order intake is saturated, try again later.", Math.max(1, retryAfterSeconds + 1));
+    }
+
+    private void sample(){
+
+        var completed = completions.get();
+
+        completionRate = (completed - sampledCompletions) * 1000.0 / sampleIntervalMs;
+        sampledCompletions = completed;
+
+        try {
+
+            lag = measureLag();
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            return;
+        } catch (Exception e) {
+
+            log.warn("Error trying to measure consumer lag, keeping admission rate at {}", bucket.getRate(), e);
+
+            return;
+        }
+
+        saturated = lag >= saturationLag;
+
+        bucket.setRate(nextRate(bucket.getRate()), System.nanoTime());
+    }
+
+    private double nextRate(double rate){
+
+        if (lag <= targetLag) {
+
+            return Math.min(maxRate, rate + rateStep);
+        }
+
+        var drainRate = completionRate > 0 ? Math.min(rate, completionRate) : rate;
+        var drained = drainRate * targetLag / lag;
+
+        return Math.max(minRate, drained);
+    }
+
+    private long measureLag() throws InterruptedException, ExecutionException, TimeoutException {
+
+        var maxLag = 0L;
+
+        for (String consumerGroup : consumerGroups) {
+
+            maxLag = Math.max(maxLag, measureLag(consumerGroup));
+        }
+
+        return maxLag;
+    }
+
+    private long measureLag(String consumerGroup) throws InterruptedException, ExecutionException, TimeoutException {
+
+        Map<TopicPartition, OffsetAndMetadata> committed = adminClient
+                .listConsumerGroupOffsets(consumerGroup)
+                .partitionsToOffsetAndMetadata()
+                .get(sampleIntervalMs, TimeUnit.MILLISECONDS);
+
+        if (committed.isEmpty()) {
+
+            return 0;
+        }
+
+        var latest = new HashMap<TopicPartition, OffsetSpec>(committed.size());
+        committed.keySet().forEach(partition -> latest.put(partition, OffsetSpec.latest()));
+
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = adminClient
+                .listOffsets(latest)
+                .all()
+                .get(sampleIntervalMs, TimeUnit.MILLISECONDS);
+
+        var groupLag = 0L;
+
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : committed.entrySet()) {
+
+            var endOffset = endOffsets.get(entry.getKey());
+
+            if (endOffset != null && entry.getValue() != null) {
+
+                groupLag += Math.max(0, endOffset.offset() - entry.getValue().offset());
+            }
+        }
+
+        return groupLag;
+    }
+}
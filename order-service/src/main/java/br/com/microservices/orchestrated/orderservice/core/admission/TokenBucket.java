@@ -0,0 +1,61 @@
+package br.com.microservices.orchestrated.orderservice.core.admission;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+
+    private double ratePerSecond;
+
+    private double tokens;
+
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, double capacity, long now){
+
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    public synchronized long tryAcquire(long now){
+
+        refill(now);
+
+        if (tokens >= 1) {
+
+            tokens -= 1;
+
+            return 0;
+        }
+
+        return (long) Math.ceil((1 - tokens) / ratePerSecond * NANOS_PER_SECOND);
+    }
+
+    public synchronized void setRate(double ratePerSecond, long now){
+
+        refill(now);
+
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public synchronized double getRate(){
+
+        return ratePerSecond;
+    }
+
+    private void refill(long now){
+
+        var elapsed = now - refilledAt;
+
+        if (elapsed > 0) {
+
+            tokens = Math.min(capacity, tokens + elapsed / NANOS_PER_SECOND * ratePerSecond);
+            refilledAt = now;
+        }
+    }
+}
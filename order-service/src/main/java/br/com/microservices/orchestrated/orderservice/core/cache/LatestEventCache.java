@@ -0,0 +1,101 @@
+package br.com.microservices.orchestrated.orderservice.core.cache;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class LatestEventCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.events.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.events.cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${saga.events.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private Cache<String, Event> byOrderId;
+
+    private Cache<String, Event> byTransactionId;
+
+    @PostConstruct
+    public void start(){
+
+        byOrderId = createCache("orderId");
+        byTransactionId = createCache("transactionId");
+    }
+
+    public Optional<Event> findByOrderId(String orderId, Function<String, Optional<Event>> loader){
+
+        return find(byOrderId, orderId, loader);
+    }
+
+    public Optional<Event> findByTransactionId(String transactionId, Function<String, Optional<Event>> loader){
+
+        return find(byTransactionId, transactionId, loader);
+    }
+
+    public void refresh(Event event){
+
+        if (!enabled) {
+
+            return;
+        }
+
+        if (event.getOrderId() != null) {
+
+            byOrderId.asMap().merge(event.getOrderId(), event, this::latest);
+        }
+
+        if (event.getTransactionId() != null) {
+
+            byTransactionId.asMap().merge(event.getTransactionId(), event, this::latest);
+        }
+    }
+
+    private Optional<Event> find(Cache<String, Event> cache, String key, Function<String, Optional<Event>> loader){
+
+        if (!enabled) {
+
+            return loader.apply(key);
+        }
+
+        return Optional.ofNullable(cache.get(key, missing -> loader.apply(missing).orElse(null)));
+    }
+
+    private Event latest(Event cached, Event received){
+
+        if (cached.getCreatedAt() != null && received.getCreatedAt() != null && cached.getCreatedAt().isAfter(received.getCreatedAt())) {
+
+            return cached;
+        }
+
+        return received;
+    }
+
+    private Cache<String, Event> createCache(String key){
+
+        Cache<String, Event> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "saga.events.latest", "key", key);
+    }
+}
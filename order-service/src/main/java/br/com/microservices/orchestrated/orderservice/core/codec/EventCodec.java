@@ -0,0 +1,14 @@
+package br.com.microservices.orchestrated.orderservice.core.codec;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+
+import java.io.IOException;
+
+public interface EventCodec {
+
+    String getName();
+
+    byte[] encode(Event event) throws IOException;
+
+    Event decode(byte[] payload) throws IOException;
+}
@@ -1,9 +1,12 @@
 package br.com.microservices.orchestrated.orderservice.core.consumers;
 
+import br.com.microservices.orchestrated.orderservice.core.priority.PriorityLanes;
 import br.com.microservices.orchestrated.orderservice.core.services.EventService;
+import br.com.microservices.orchestrated.orderservice.core.tracing.SagaTracer;
 import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -16,15 +19,29 @@ public class EventConsumer {
 
     private final EventService eventService;
 
+    private final SagaTracer sagaTracer;
+
+    private final PriorityLanes priorityLanes;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.notify-ending}",
+            concurrency = "${spring.kafka.partitions.notify-ending:${spring.kafka.partitions.default}}"
+    )
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.notify-ending}"
+            topics = "${spring.kafka.topic.notify-ending}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
     )
-    public void consumeNotifyEndingTopic(String payload){
+    public void consumeNotifyEndingTopic(ConsumerRecord<String, byte[]> record){
+
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
 
-        log.info("Receiving ending notification event {} from notify-ending topic", payload);
+        var event = jsonUtil.toEvent(record);
 
-        var event = jsonUtil.toEvent(payload);
+        log.info("Receiving ending notification event {} from notify-ending topic", event);
 
         eventService.notifyEnding(event);
     }
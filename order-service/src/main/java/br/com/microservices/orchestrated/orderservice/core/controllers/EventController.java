@@ -2,13 +2,17 @@ package br.com.microservices.orchestrated.orderservice.core.controllers;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.dtos.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dtos.EventPage;
+import br.com.microservices.orchestrated.orderservice.core.dtos.EventSearchFilters;
 import br.com.microservices.orchestrated.orderservice.core.services.EventService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @AllArgsConstructor
@@ -24,8 +28,24 @@ public class EventController {
     }
 
     @GetMapping("/all")
-    public List<Event> findAll(EventFilters eventFilters){
+    public EventPage findAll(@RequestParam(required = false) String cursor,
+                             @RequestParam(defaultValue = "100") int limit){
+
+        return eventService.findPage(cursor, limit);
+    }
+
+    @GetMapping("/search")
+    public EventPage search(EventSearchFilters eventSearchFilters){
+
+        return eventService.search(eventSearchFilters);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll(@RequestParam(required = false) String cursor){
 
-        return eventService.findAll();
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(eventService.streamAll(cursor));
     }
 }
@@ -1,5 +1,6 @@
 package br.com.microservices.orchestrated.orderservice.core.controllers;
 
+import br.com.microservices.orchestrated.orderservice.core.admission.OrderAdmissionControl;
 import br.com.microservices.orchestrated.orderservice.core.document.Order;
 import br.com.microservices.orchestrated.orderservice.core.dtos.OrderRequest;
 import br.com.microservices.orchestrated.orderservice.core.services.OrderService;
@@ -17,9 +18,13 @@ public class OrderController {
 
     private final OrderService orderService;
 
+    private final OrderAdmissionControl orderAdmissionControl;
+
     @PostMapping
     public Order createOrder(@RequestBody OrderRequest orderRequest){
 
+        orderAdmissionControl.acquire();
+
         return orderService.createOrder(orderRequest);
     }
 }
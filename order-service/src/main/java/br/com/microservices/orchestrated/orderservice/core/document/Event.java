@@ -1,11 +1,14 @@
 package br.com.microservices.orchestrated.orderservice.core.document;
 
 
+import br.com.microservices.orchestrated.orderservice.core.enums.ESagaPriority;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -16,6 +19,15 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Document(collection = "event")
+@CompoundIndexes({
+        @CompoundIndex(name = "event_keyset", def = "{'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "event_order_created", def = "{'orderId': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "event_transaction_created", def = "{'transactionId': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "event_status_created", def = "{'status': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "event_status_source_created", def = "{'status': 1, 'source': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "event_source_created", def = "{'source': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "event_product_created", def = "{'payload.products.product.code': 1, 'createdAt': -1, '_id': -1}")
+})
 public class Event {
 
     @Id
@@ -31,6 +43,8 @@ public class Event {
 
     private String status;
 
+    private ESagaPriority priority;
+
     private List<History> eventHistory;
 
     private LocalDateTime createdAt;
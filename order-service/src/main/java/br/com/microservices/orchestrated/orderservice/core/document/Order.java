@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -24,6 +25,7 @@ public class Order {
 
     private LocalDateTime createdAt;
 
+    @Indexed(name = "order_transaction", unique = true)
     private String transactionId;
 
     private Double totalAmount;
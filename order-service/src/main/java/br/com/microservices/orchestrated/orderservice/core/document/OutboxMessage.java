@@ -0,0 +1,35 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "outbox")
+@CompoundIndex(name = "outbox_pending", def = "{'publishedAt': 1, 'createdAt': 1}")
+public class OutboxMessage {
+
+    @Id
+    private String id;
+
+    private Event event;
+
+    private LocalDateTime createdAt;
+
+    private String claimedBy;
+
+    private LocalDateTime claimedUntil;
+
+    @Indexed(name = "outbox_published_ttl", expireAfterSeconds = 86400)
+    private LocalDateTime publishedAt;
+}
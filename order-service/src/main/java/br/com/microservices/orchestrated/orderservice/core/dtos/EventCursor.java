@@ -0,0 +1,39 @@
+package br.com.microservices.orchestrated.orderservice.core.dtos;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public record EventCursor(LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static EventCursor after(Event event){
+
+        return new EventCursor(event.getCreatedAt(), event.getId());
+    }
+
+    public static EventCursor decode(String cursor){
+
+        try {
+
+            var value = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            var separator = value.indexOf(SEPARATOR);
+
+            return new EventCursor(LocalDateTime.parse(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+
+            throw new ValidationException("Invalid events cursor.");
+        }
+    }
+
+    public String encode(){
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((createdAt + SEPARATOR + id).getBytes(UTF_8));
+    }
+}
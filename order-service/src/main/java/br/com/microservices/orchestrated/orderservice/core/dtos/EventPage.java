@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.orderservice.core.dtos;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPage {
+
+    private List<Event> events;
+
+    private String nextCursor;
+}
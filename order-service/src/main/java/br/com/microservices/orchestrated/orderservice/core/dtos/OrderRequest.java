@@ -1,6 +1,7 @@
 package br.com.microservices.orchestrated.orderservice.core.dtos;
 
 import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.enums.ESagaPriority;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,4 +14,6 @@ import java.util.List;
 public class OrderRequest {
 
     private List<OrderProducts> products;
+
+    private ESagaPriority priority;
 }
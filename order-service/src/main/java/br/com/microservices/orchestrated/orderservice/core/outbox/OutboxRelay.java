@@ -0,0 +1,235 @@
+package br.com.microservices.orchestrated.orderservice.core.outbox;
+
+import br.com.microservices.orchestrated.orderservice.core.document.OutboxMessage;
+import br.com.microservices.orchestrated.orderservice.core.producers.SagaProducer;
+import br.com.microservices.orchestrated.orderservice.core.repository.OutboxRepository;
+import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final SagaProducer sagaProducer;
+
+    private final JsonUtil jsonUtil;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Semaphore signal = new Semaphore(0);
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final ExecutorService settler = Executors.newSingleThreadExecutor(runnable -> {
+
+        var thread = new Thread(runnable, "saga-outbox-settler");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    @Value("${saga.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${saga.outbox.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    @Value("${saga.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${saga.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    private Thread relay;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start(){
+
+        running = true;
+
+        relay = new Thread(this::run, "saga-outbox-relay");
+        relay.setDaemon(true);
+        relay.start();
+    }
+
+    @PreDestroy
+    public void stop(){
+
+        running = false;
+
+        relay.interrupt();
+        settler.shutdown();
+    }
+
+    public void enqueue(OutboxMessage message){
+
+        outboxRepository.save(message);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit(){
+
+                    wakeUp();
+                }
+            });
+        } else {
+
+            wakeUp();
+        }
+    }
+
+    private void wakeUp(){
+
+        if (signal.availablePermits() == 0) {
+
+            signal.release();
+        }
+    }
+
+    private void run(){
+
+        while (running) {
+
+            try {
+
+                signal.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+
+                var relayed = batchSize;
+
+                while (running && relayed == batchSize) {
+
+                    relayed = relayBatch();
+                }
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+
+                return;
+            } catch (Exception e) {
+
+                log.error("Error trying to relay outbox messages", e);
+            }
+        }
+    }
+
+    private int relayBatch() throws InterruptedException {
+
+        var messages = claimBatch();
+
+        if (messages.isEmpty()) {
+
+            return 0;
+        }
+
+        var sends = new ArrayList<CompletableFuture<?>>(messages.size());
+
+        for (OutboxMessage message : messages) {
+
+            var event = message.getEvent();
+
+            sends.add(sagaProducer
+                    .sendEvent(event.getOrderId(), jsonUtil.encode(event))
+                    .whenCompleteAsync((result, e) -> settle(message, e), settler));
+        }
+
+        try {
+
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+
+            log.warn("Some outbox messages failed to relay and were released for retry", e.getCause());
+        } catch (TimeoutException e) {
+
+            log.warn("Outbox sends still pending after {} ms, they stay leased until they settle", sendTimeoutMs);
+        }
+
+        return messages.size();
+    }
+
+    private List<OutboxMessage> claimBatch(){
+
+        var now = LocalDateTime.now();
+        var query = Query
+                .query(Criteria.where("publishedAt").is(null)
+                        .orOperator(Criteria.where("claimedUntil").is(null), Criteria.where("claimedUntil").lt(now)))
+                .with(Sort.by(Sort.Order.asc("createdAt")));
+        var claim = Update
+                .update("claimedBy", owner)
+                .set("claimedUntil", now.plus(Duration.ofMillis(leaseMs)));
+        var messages = new ArrayList<OutboxMessage>(batchSize);
+
+        while (messages.size() < batchSize) {
+
+            var message = mongoTemplate.findAndModify(query, claim, FindAndModifyOptions.options().returnNew(true), OutboxMessage.class);
+
+            if (message == null) {
+
+                break;
+            }
+
+            messages.add(message);
+        }
+
+        return messages;
+    }
+
+    private void settle(OutboxMessage message, Throwable failure){
+
+        var claimed = Query.query(Criteria.where("_id").is(message.getId()).and("claimedBy").is(owner));
+
+        if (failure != null) {
+
+            mongoTemplate.updateFirst(claimed, new Update().unset("claimedBy").unset("claimedUntil"), OutboxMessage.class);
+
+            return;
+        }
+
+        var now = LocalDateTime.now();
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(message.getId())),
+                Update.update("publishedAt", now).unset("claimedBy").unset("claimedUntil"),
+                OutboxMessage.class);
+
+        meterRegistry.timer("saga.outbox.relay.lag").record(Duration.between(message.getCreatedAt(), now));
+        meterRegistry.counter("saga.outbox.published").increment();
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.microservices.orchestrated.orderservice.core.priority;
+
+import br.com.microservices.orchestrated.orderservice.core.enums.ESagaPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil.PRIORITY_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Component
+@RequiredArgsConstructor
+public class PriorityLanes {
+
+    public static final String PRIORITY_LANE = "priority";
+    public static final String STANDARD_LANE = "standard";
+
+    private static final byte[] HIGH_PRIORITY = ESagaPriority.HIGH.name().getBytes(UTF_8);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${saga.priority.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.priority.topic-suffix:-priority}")
+    private String topicSuffix;
+
+    public String resolveTopic(String topic, Iterable<Header> headers){
+
+        return enabled && isHighPriority(headers) ? topic + topicSuffix : topic;
+    }
+
+    public String baseTopic(String topic){
+
+        return topic.endsWith(topicSuffix) ? topic.substring(0, topic.length() - topicSuffix.length()) : topic;
+    }
+
+    public String laneOf(String topic){
+
+        return topic.endsWith(topicSuffix) ? PRIORITY_LANE : STANDARD_LANE;
+    }
+
+    public void recordLag(ConsumerRecord<String, byte[]> record){
+
+        if (record.timestamp() <= 0) {
+
+            return;
+        }
+
+        var lag = Duration.ofMillis(Math.max(0, System.currentTimeMillis() - record.timestamp()));
+
+        meterRegistry.timer("saga.lane.lag", "lane", laneOf(record.topic()), "topic", baseTopic(record.topic())).record(lag);
+    }
+
+    private boolean isHighPriority(Iterable<Header> headers){
+
+        Header priority = null;
+
+        for (Header header : headers) {
+
+            if (PRIORITY_HEADER.equals(header.key())) {
+
+                priority = header;
+            }
+        }
+
+        return priority != null && Arrays.equals(priority.value(), HIGH_PRIORITY);
+    }
+}
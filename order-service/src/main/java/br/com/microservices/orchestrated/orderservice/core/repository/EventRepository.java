@@ -5,14 +5,11 @@ import br.com.microservices.orchestrated.orderservice.core.document.Order;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRepository extends MongoRepository<Event, String > {
 
-    List<Event> findAllByOrderByCreatedAtDesc();
-
     Optional<Event> findTop1ByOrderIdOrderByCreatedAtDesc(String orderId);
 
     Optional<Event> findTop1ByTransactionIdOrderByCreatedAtDesc(String transactionId);
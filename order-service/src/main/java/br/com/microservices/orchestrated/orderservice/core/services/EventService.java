@@ -1,14 +1,28 @@
 package br.com.microservices.orchestrated.orderservice.core.services;
 
 import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.admission.OrderAdmissionControl;
+import br.com.microservices.orchestrated.orderservice.core.cache.LatestEventCache;
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dtos.EventCursor;
 import br.com.microservices.orchestrated.orderservice.core.dtos.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dtos.EventPage;
+import br.com.microservices.orchestrated.orderservice.core.dtos.EventSearchFilters;
 import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
@@ -18,16 +32,74 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @AllArgsConstructor
 public class EventService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_BATCH_SIZE = 500;
+    private static final byte NEW_LINE = '\n';
+
     private final EventRepository eventRepository;
 
+    private final MongoTemplate mongoTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final OrderAdmissionControl orderAdmissionControl;
+
+    private final LatestEventCache latestEventCache;
+
     public Event save(Event event){
 
         return eventRepository.save(event);
     }
 
-    public List<Event> findAll(){
+    public EventPage findPage(String cursor, int limit){
+
+        validateLimit(limit);
+
+        return findPage(createKeysetQuery(cursor, List.of()), limit);
+    }
+
+    public EventPage search(EventSearchFilters filters){
+
+        var limit = filters.getLimit() != null ? filters.getLimit() : DEFAULT_PAGE_SIZE;
+
+        validateLimit(limit);
+
+        return findPage(createSearchQuery(filters), limit);
+    }
+
+    public StreamingResponseBody streamAll(String cursor){
+
+        var query = createKeysetQuery(cursor, List.of()).cursorBatchSize(STREAM_BATCH_SIZE);
 
-        return eventRepository.findAllByOrderByCreatedAtDesc();
+        return outputStream -> writeNdjson(query, outputStream);
+    }
+
+    Query createSearchQuery(EventSearchFilters filters){
+
+        var criteria = new ArrayList<Criteria>();
+
+        if (!isEmpty(filters.getStatus())) {
+
+            criteria.add(Criteria.where("status").is(filters.getStatus()));
+        }
+
+        if (!isEmpty(filters.getSource())) {
+
+            criteria.add(Criteria.where("source").is(filters.getSource()));
+        }
+
+        if (!isEmpty(filters.getProductCode())) {
+
+            criteria.add(Criteria.where("payload.products.product.code").is(filters.getProductCode()));
+        }
+
+        if (filters.getFrom() != null || filters.getTo() != null) {
+
+            criteria.add(createdAtRange(filters.getFrom(), filters.getTo()));
+        }
+
+        return createKeysetQuery(filters.getCursor(), criteria);
     }
 
     public Event findByFilters(EventFilters filters){
@@ -45,18 +117,103 @@ public class EventService {
 
     private Event findByOrderId(String orderId){
 
-        return eventRepository
-                .findTop1ByOrderIdOrderByCreatedAtDesc(orderId)
+        return latestEventCache
+                .findByOrderId(orderId, eventRepository::findTop1ByOrderIdOrderByCreatedAtDesc)
                 .orElseThrow(() -> new ValidationException("Event not found by order id"));
     }
 
     private Event findByTransactionId(String orderId){
 
-        return eventRepository
-                .findTop1ByTransactionIdOrderByCreatedAtDesc(orderId)
+        return latestEventCache
+                .findByTransactionId(orderId, eventRepository::findTop1ByTransactionIdOrderByCreatedAtDesc)
                 .orElseThrow(() -> new ValidationException("Event not found by transaction id"));
     }
 
+    private EventPage findPage(Query query, int limit){
+
+        var events = mongoTemplate.find(query.limit(limit + 1), Event.class);
+
+        if (events.size() <= limit) {
+
+            return new EventPage(events, null);
+        }
+
+        var page = events.subList(0, limit);
+
+        return new EventPage(page, EventCursor.after(page.get(limit - 1)).encode());
+    }
+
+    private Query createKeysetQuery(String cursor, List<Criteria> filters){
+
+        var criteria = new ArrayList<>(filters);
+
+        if (!isEmpty(cursor)) {
+
+            var after = EventCursor.decode(cursor);
+
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("id").lt(after.id())));
+        }
+
+        var query = new Query().with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        if (!criteria.isEmpty()) {
+
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+
+        return query;
+    }
+
+    private Criteria createdAtRange(LocalDateTime from, LocalDateTime to){
+
+        var range = Criteria.where("createdAt");
+
+        if (from != null) {
+
+            range.gte(from);
+        }
+
+        if (to != null) {
+
+            range.lt(to);
+        }
+
+        return range;
+    }
+
+    private void validateLimit(int limit){
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+
+            throw new ValidationException(String.format("Limit must be between 1 and %d.", MAX_PAGE_SIZE));
+        }
+    }
+
+    private void writeNdjson(Query query, OutputStream outputStream) throws IOException {
+
+        var written = 0;
+
+        try (var events = mongoTemplate.stream(query, Event.class)) {
+
+            var iterator = events.iterator();
+
+            while (iterator.hasNext()) {
+
+                outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                outputStream.write(NEW_LINE);
+
+                if (++written % STREAM_BATCH_SIZE == 0) {
+
+                    outputStream.flush();
+                }
+            }
+        }
+
+        outputStream.flush();
+    }
+
     private void validateEmptyFilters(EventFilters filters){
 
         if (isEmpty(filters.getOrderId()) && isEmpty(filters.getTransactionId())){
@@ -70,7 +227,9 @@ public class EventService {
         event.setOrderId(event.getOrderId());
         event.setCreatedAt(LocalDateTime.now());
 
-        this.save(event);
+        latestEventCache.refresh(this.save(event));
+
+        orderAdmissionControl.onSagaCompleted();
 
         log.info("Order {} with saga notified. TransactionId: {}", event.getOrderId(), event.getTransactionId());
     }
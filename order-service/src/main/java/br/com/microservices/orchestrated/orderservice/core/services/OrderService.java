@@ -2,13 +2,15 @@ package br.com.microservices.orchestrated.orderservice.core.services;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OutboxMessage;
 import br.com.microservices.orchestrated.orderservice.core.dtos.OrderRequest;
-import br.com.microservices.orchestrated.orderservice.core.producers.SagaProducer;
+import br.com.microservices.orchestrated.orderservice.core.enums.ESagaPriority;
+import br.com.microservices.orchestrated.orderservice.core.outbox.OutboxRelay;
 import br.com.microservices.orchestrated.orderservice.core.repository.OrderRepository;
-import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import org.apache.kafka.common.protocol.types.Field;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -22,12 +24,11 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
 
-    private final JsonUtil jsonUtil;
-
-    private final SagaProducer sagaProducer;
-
     private final EventService eventService;
 
+    private final OutboxRelay outboxRelay;
+
+    @Transactional
     public Order createOrder(OrderRequest orderRequest){
 
         String transactionId = String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID());
@@ -40,17 +41,23 @@ public class OrderService {
 
         orderRepository.save(order);
 
-        sagaProducer.sendEvent(jsonUtil.toJson(createPayload(order)));
+        var event = createPayload(order, orderRequest.getPriority());
+
+        outboxRelay.enqueue(OutboxMessage.builder()
+                .event(event)
+                .createdAt(event.getCreatedAt())
+                .build());
 
         return order;
     }
 
-    private Event createPayload(Order order){
+    private Event createPayload(Order order, ESagaPriority priority){
 
         var event = Event.builder()
                 .orderId(order.getId())
                 .transactionId(order.getTransactionId())
                 .payload(order)
+                .priority(priority != null ? priority : ESagaPriority.NORMAL)
                 .createdAt(LocalDateTime.now())
                 .build();
 
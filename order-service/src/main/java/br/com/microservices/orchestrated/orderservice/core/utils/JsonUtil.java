@@ -1,35 +1,140 @@
 package br.com.microservices.orchestrated.orderservice.core.utils;
 
+import br.com.microservices.orchestrated.orderservice.config.exception.EventCodecException;
+import br.com.microservices.orchestrated.orderservice.core.codec.EncodedEvent;
+import br.com.microservices.orchestrated.orderservice.core.codec.EventCodec;
+import br.com.microservices.orchestrated.orderservice.core.codec.JacksonEventCodec;
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.tracing.SagaTracer;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-@AllArgsConstructor
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@RequiredArgsConstructor
 @Component
 public class JsonUtil {
 
+    public static final String CODEC_HEADER = "saga-codec";
+    public static final String SOURCE_HEADER = "saga-source";
+    public static final String STATUS_HEADER = "saga-status";
+    public static final String TRANSACTION_ID_HEADER = "saga-transaction-id";
+    public static final String ORDER_ID_HEADER = "saga-order-id";
+    public static final String PRIORITY_HEADER = "saga-priority";
+    public static final String JSON_CODEC = "json";
+
+    private static final String SMILE_CODEC = "smile";
+    private static final String CBOR_CODEC = "cbor";
+
     private final ObjectMapper mapper;
 
-    public String toJson(Object object) {
+    private final SagaTracer sagaTracer;
+
+    private final Map<String, EventCodec> codecs = new HashMap<>();
+
+    @Value("${saga.codec.write:json}")
+    private String writeCodecName;
+
+    @Value("${saga.codec.blackbird:false}")
+    private boolean blackbird;
+
+    private EventCodec writeCodec;
+
+    @PostConstruct
+    public void registerCodecs(){
+
+        var codecMapper = blackbird ? mapper.copy().registerModule(new BlackbirdModule()) : mapper;
+
+        register(new JacksonEventCodec(JSON_CODEC, codecMapper));
+        register(new JacksonEventCodec(SMILE_CODEC, codecMapper.copyWith(new SmileFactory())));
+        register(new JacksonEventCodec(CBOR_CODEC, codecMapper.copyWith(new CBORFactory())));
+
+        writeCodec = codecs.get(writeCodecName);
+
+        if (writeCodec == null) {
+
+            throw new IllegalArgumentException(String.format("Unknown saga codec %s", writeCodecName));
+        }
+    }
+
+    public EncodedEvent encode(Event event) {
 
         try {
 
-            return mapper.writeValueAsString(object);
+            return new EncodedEvent(writeCodec.getName(), writeCodec.encode(event), createHeaders(event));
         } catch (Exception e) {
 
-            return "";
+            throw new EventCodecException(String.format("Error trying to encode event as %s", writeCodec.getName()), e);
         }
     }
 
-    public Event toEvent(String json) {
+    public Event toEvent(ConsumerRecord<String, byte[]> record) {
+
+        var header = record.headers().lastHeader(CODEC_HEADER);
+        var codecName = header == null ? JSON_CODEC : new String(header.value(), UTF_8);
+        var codec = codecs.get(codecName);
+
+        if (codec == null) {
+
+            throw new EventCodecException(String.format("Unknown saga codec %s", codecName), null);
+        }
+
+        var span = sagaTracer.start("saga.decode");
+        span.setAttribute("saga.codec", codecName);
+        span.setAttribute("saga.payload.bytes", record.value().length);
 
         try {
 
-            return mapper.readValue(json, Event.class);
+            return codec.decode(record.value());
         } catch (Exception e) {
 
-            return null;
+            sagaTracer.fail(span, e);
+
+            throw new EventCodecException(String.format("Error trying to decode event as %s", codecName), e);
+        } finally {
+
+            span.end();
+        }
+    }
+
+    private List<Header> createHeaders(Event event){
+
+        var headers = new ArrayList<Header>(6);
+
+        addHeader(headers, CODEC_HEADER, writeCodec.getName());
+        addHeader(headers, SOURCE_HEADER, event.getSource());
+        addHeader(headers, STATUS_HEADER, event.getStatus());
+        addHeader(headers, TRANSACTION_ID_HEADER, event.getTransactionId());
+        addHeader(headers, ORDER_ID_HEADER, event.getOrderId());
+        addHeader(headers, PRIORITY_HEADER, event.getPriority());
+
+        return headers;
+    }
+
+    private void addHeader(List<Header> headers, String key, Object value){
+
+        if (value != null) {
+
+            headers.add(new RecordHeader(key, String.valueOf(value).getBytes(UTF_8)));
         }
     }
+
+    private void register(EventCodec codec){
+
+        codecs.put(codec.getName(), codec);
+    }
 }
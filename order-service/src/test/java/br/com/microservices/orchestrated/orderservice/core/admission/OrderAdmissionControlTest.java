@@ -0,0 +1,70 @@
+package br.com.microservices.orchestrated.orderservice.core.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class OrderAdmissionControlTest {
+
+    private OrderAdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp(){
+
+        admissionControl = new OrderAdmissionControl(mock(KafkaAdmin.class), new SimpleMeterRegistry());
+
+        ReflectionTestUtils.setField(admissionControl, "minRate", 5.0);
+        ReflectionTestUtils.setField(admissionControl, "maxRate", 500.0);
+        ReflectionTestUtils.setField(admissionControl, "rateStep", 10.0);
+        ReflectionTestUtils.setField(admissionControl, "targetLag", 1000L);
+    }
+
+    @Test
+    void increasesTheRateWhileLagIsUnderTheTarget(){
+
+        sampled(500, 0);
+
+        assertThat(nextRate(100)).isEqualTo(110);
+        assertThat(nextRate(495)).isEqualTo(500);
+    }
+
+    @Test
+    void drainsAtTheCompletionRateWhenLagIsOverTheTarget(){
+
+        sampled(2000, 40);
+
+        assertThat(nextRate(100)).isEqualTo(20);
+    }
+
+    @Test
+    void fallsBackToTheCurrentRateWhenNoSagaCompletedInTheWindow(){
+
+        sampled(2000, 0);
+
+        assertThat(nextRate(100)).isEqualTo(50);
+    }
+
+    @Test
+    void neverDropsBelowTheMinimumRate(){
+
+        sampled(1_000_000, 0);
+
+        assertThat(nextRate(100)).isEqualTo(5);
+    }
+
+    private void sampled(long lag, double completionRate){
+
+        ReflectionTestUtils.setField(admissionControl, "lag", lag);
+        ReflectionTestUtils.setField(admissionControl, "completionRate", completionRate);
+    }
+
+    private double nextRate(double rate){
+
+        return ReflectionTestUtils.invokeMethod(admissionControl, "nextRate", rate);
+    }
+}
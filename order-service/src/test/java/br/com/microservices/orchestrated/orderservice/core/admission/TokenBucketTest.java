@@ -0,0 +1,78 @@
+package br.com.microservices.orchestrated.orderservice.core.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void startsFullAndReportsTheWaitForTheNextToken(){
+
+        var bucket = new TokenBucket(10, 2, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(100 * MILLISECOND);
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate(){
+
+        var bucket = new TokenBucket(10, 1, 0);
+
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.tryAcquire(40 * MILLISECOND)).isEqualTo(60 * MILLISECOND);
+        assertThat(bucket.tryAcquire(100 * MILLISECOND)).isZero();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity(){
+
+        var bucket = new TokenBucket(10, 2, 0);
+
+        assertThat(bucket.tryAcquire(10 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(10 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(10 * SECOND)).isPositive();
+    }
+
+    @Test
+    void rateChangeKeepsTokensEarnedAtThePreviousRate(){
+
+        var bucket = new TokenBucket(10, 1, 0);
+
+        bucket.tryAcquire(0);
+        bucket.setRate(1, 100 * MILLISECOND);
+
+        assertThat(bucket.getRate()).isEqualTo(1);
+        assertThat(bucket.tryAcquire(100 * MILLISECOND)).isZero();
+        assertThat(bucket.tryAcquire(100 * MILLISECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void rateChangeAppliesToTheNextRefill(){
+
+        var bucket = new TokenBucket(1, 1, 0);
+
+        bucket.tryAcquire(0);
+        bucket.setRate(100, 0);
+
+        assertThat(bucket.tryAcquire(10 * MILLISECOND)).isZero();
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotAddTokens(){
+
+        var bucket = new TokenBucket(10, 1, SECOND);
+
+        bucket.tryAcquire(SECOND);
+
+        assertThat(bucket.tryAcquire(0)).isEqualTo(100 * MILLISECOND);
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.microservices.orchestrated.orderservice.core.dtos;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 30, 15, 123_456_789);
+
+    @Test
+    void encodedCursorDecodesToTheSamePosition(){
+
+        var cursor = new EventCursor(CREATED_AT, "65a1f0c2e4b0a1b2c3d4e5f6");
+
+        assertThat(EventCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorAfterAnEventPointsAtItsCreationAndId(){
+
+        var event = Event
+                .builder()
+                .id("65a1f0c2e4b0a1b2c3d4e5f6")
+                .createdAt(CREATED_AT)
+                .build();
+
+        assertThat(EventCursor.after(event)).isEqualTo(new EventCursor(CREATED_AT, "65a1f0c2e4b0a1b2c3d4e5f6"));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding(){
+
+        var encoded = new EventCursor(CREATED_AT, "65a1f0c2e4b0a1b2c3d4e5f6?").encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void onlyTheFirstSeparatorSplitsTheCursor(){
+
+        var cursor = new EventCursor(CREATED_AT, "id|with|separators");
+
+        assertThat(EventCursor.decode(cursor.encode()).id()).isEqualTo("id|with|separators");
+    }
+
+    @Test
+    void rejectsCursorThatIsNotBase64(){
+
+        assertThatThrownBy(() -> EventCursor.decode("not a cursor!")).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void rejectsCursorWithoutSeparator(){
+
+        assertThatThrownBy(() -> EventCursor.decode(encode(CREATED_AT.toString()))).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void rejectsCursorWithInvalidDate(){
+
+        assertThatThrownBy(() -> EventCursor.decode(encode("yesterday|65a1f0c2e4b0a1b2c3d4e5f6"))).isInstanceOf(ValidationException.class);
+    }
+
+    private String encode(String value){
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+}
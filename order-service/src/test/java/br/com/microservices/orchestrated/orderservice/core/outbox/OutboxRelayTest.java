@@ -0,0 +1,137 @@
+package br.com.microservices.orchestrated.orderservice.core.outbox;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.OutboxMessage;
+import br.com.microservices.orchestrated.orderservice.core.producers.SagaProducer;
+import br.com.microservices.orchestrated.orderservice.core.repository.OutboxRepository;
+import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private MongoTemplate mongoTemplate;
+
+    private SagaProducer sagaProducer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp(){
+
+        mongoTemplate = mock(MongoTemplate.class);
+        sagaProducer = mock(SagaProducer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(mock(OutboxRepository.class), mongoTemplate, sagaProducer, mock(JsonUtil.class), meterRegistry);
+
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "leaseMs", 60000L);
+    }
+
+    @Test
+    void claimsMessagesWithALeaseBeforeSending(){
+
+        claim(message("outbox-1", "order-1"));
+        when(sagaProducer.sendEvent(eq("order-1"), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        relayBatch();
+
+        var update = ArgumentCaptor.forClass(Update.class);
+
+        verify(mongoTemplate, times(2)).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(OutboxMessage.class));
+
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsKeys("claimedBy", "claimedUntil");
+    }
+
+    @Test
+    void marksEachSentMessageAndReleasesEachFailedOne(){
+
+        claim(message("outbox-1", "order-1"), message("outbox-2", "order-2"));
+        when(sagaProducer.sendEvent(eq("order-1"), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(sagaProducer.sendEvent(eq("order-2"), any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThat(relayBatch()).isEqualTo(2);
+
+        var query = ArgumentCaptor.forClass(Query.class);
+        var update = ArgumentCaptor.forClass(Update.class);
+
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(OutboxMessage.class));
+
+        for (int i = 0; i < 2; i++) {
+
+            var filter = query.getAllValues().get(i).getQueryObject();
+            var change = update.getAllValues().get(i).getUpdateObject();
+
+            if ("outbox-1".equals(filter.get("_id"))) {
+
+                assertThat(change.get("$set", Document.class)).containsKey("publishedAt");
+            } else {
+
+                assertThat(filter).containsEntry("_id", "outbox-2").containsKey("claimedBy");
+                assertThat(change.get("$unset", Document.class)).containsKeys("claimedBy", "claimedUntil");
+            }
+        }
+
+        assertThat(meterRegistry.counter("saga.outbox.published").count()).isEqualTo(1);
+    }
+
+    @Test
+    void returnsZeroWhenNothingCanBeClaimed(){
+
+        claim();
+
+        assertThat(relayBatch()).isZero();
+    }
+
+    private void claim(OutboxMessage... messages){
+
+        var stubbing = when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(OutboxMessage.class)));
+
+        for (OutboxMessage message : messages) {
+
+            stubbing = stubbing.thenReturn(message);
+        }
+
+        stubbing.thenReturn(null);
+    }
+
+    private int relayBatch(){
+
+        Integer relayed = ReflectionTestUtils.invokeMethod(relay, "relayBatch");
+
+        return relayed;
+    }
+
+    private OutboxMessage message(String id, String orderId){
+
+        return OutboxMessage
+                .builder()
+                .id(id)
+                .event(Event.builder().orderId(orderId).build())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
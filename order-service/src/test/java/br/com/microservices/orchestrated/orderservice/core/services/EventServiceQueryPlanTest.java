@@ -0,0 +1,229 @@
+package br.com.microservices.orchestrated.orderservice.core.services;
+
+import br.com.microservices.orchestrated.orderservice.core.admission.OrderAdmissionControl;
+import br.com.microservices.orchestrated.orderservice.core.cache.LatestEventCache;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.document.Product;
+import br.com.microservices.orchestrated.orderservice.core.dtos.EventCursor;
+import br.com.microservices.orchestrated.orderservice.core.dtos.EventSearchFilters;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@Import(EventService.class)
+@Testcontainers(disabledWithoutDocker = true)
+class EventServiceQueryPlanTest {
+
+    private static final int PAGE_SIZE = 101;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final List<String> STATUSES = List.of("SUCCESS", "ROLLBACK_PENDING", "FAIL");
+    private static final List<String> SOURCES = List.of("ORCHESTRATOR", "PRODUCT_VALIDATION_SERVICE", "PAYMENT_SERVICE", "INVENTORY_SERVICE");
+    private static final List<String> PRODUCTS = List.of("COMIC_BOOKS", "BOOKS", "MOVIES", "MUSIC");
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @MockBean
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private OrderAdmissionControl orderAdmissionControl;
+
+    @MockBean
+    private LatestEventCache latestEventCache;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void seed(){
+
+        ensureIndexes(Event.class);
+        ensureIndexes(Order.class);
+
+        mongoTemplate.remove(new Query(), Event.class);
+        mongoTemplate.remove(new Query(), Order.class);
+
+        var events = new ArrayList<Event>();
+        var orders = new ArrayList<Order>();
+
+        for (int i = 0; i < 2000; i++) {
+
+            var transactionId = UUID.randomUUID().toString();
+
+            orders.add(Order
+                    .builder()
+                    .transactionId(transactionId)
+                    .createdAt(NOW.minusSeconds(i))
+                    .build());
+
+            events.add(Event
+                    .builder()
+                    .orderId(UUID.randomUUID().toString())
+                    .transactionId(transactionId)
+                    .status(STATUSES.get(i % STATUSES.size()))
+                    .source(SOURCES.get(i % SOURCES.size()))
+                    .payload(Order
+                            .builder()
+                            .products(List.of(new OrderProducts(new Product(PRODUCTS.get(i % PRODUCTS.size()), 10.0), 1)))
+                            .build())
+                    .createdAt(NOW.minusSeconds(i))
+                    .build());
+        }
+
+        mongoTemplate.insertAll(orders);
+        mongoTemplate.insertAll(events);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searchFilters")
+    void searchIsServedByAnIndexWithoutInMemorySort(String ignored, EventSearchFilters filters){
+
+        assertIndexedWithoutSort(explain(eventService.createSearchQuery(filters), Event.class));
+    }
+
+    @ParameterizedTest(name = "{0} after cursor")
+    @MethodSource("searchFilters")
+    void searchAfterCursorIsServedByAnIndexWithoutInMemorySort(String ignored, EventSearchFilters filters){
+
+        filters.setCursor(new EventCursor(NOW.minusSeconds(500), mongoTemplate.findOne(new Query(), Event.class).getId()).encode());
+
+        assertIndexedWithoutSort(explain(eventService.createSearchQuery(filters), Event.class));
+    }
+
+    @Test
+    void latestByOrderIdIsServedByAnIndexWithoutInMemorySort(){
+
+        var orderId = mongoTemplate.findOne(new Query(), Event.class).getOrderId();
+
+        assertIndexedWithoutSort(explain(latest("orderId", orderId), Event.class));
+    }
+
+    @Test
+    void latestByTransactionIdIsServedByAnIndexWithoutInMemorySort(){
+
+        var transactionId = mongoTemplate.findOne(new Query(), Event.class).getTransactionId();
+
+        assertIndexedWithoutSort(explain(latest("transactionId", transactionId), Event.class));
+    }
+
+    @Test
+    void orderByTransactionIdIsServedByTheUniqueIndex(){
+
+        var transactionId = mongoTemplate.findOne(new Query(), Order.class).getTransactionId();
+
+        assertIndexedWithoutSort(explain(new Query(Criteria.where("transactionId").is(transactionId)), Order.class));
+    }
+
+    static Stream<Arguments> searchFilters(){
+
+        return Stream.of(
+                Arguments.of("no filters", filters(null, null, null, null)),
+                Arguments.of("status", filters("FAIL", null, null, null)),
+                Arguments.of("source", filters(null, "PAYMENT_SERVICE", null, null)),
+                Arguments.of("product", filters(null, null, "BOOKS", null)),
+                Arguments.of("status and source", filters("FAIL", "PAYMENT_SERVICE", null, null)),
+                Arguments.of("status and product", filters("FAIL", null, "BOOKS", null)),
+                Arguments.of("source and product", filters(null, "PAYMENT_SERVICE", "BOOKS", null)),
+                Arguments.of("status, source and product", filters("FAIL", "PAYMENT_SERVICE", "BOOKS", null)),
+                Arguments.of("range", filters(null, null, null, NOW.minusSeconds(1000))),
+                Arguments.of("status and range", filters("FAIL", null, null, NOW.minusSeconds(1000))),
+                Arguments.of("source and range", filters(null, "PAYMENT_SERVICE", null, NOW.minusSeconds(1000))),
+                Arguments.of("product and range", filters(null, null, "BOOKS", NOW.minusSeconds(1000))),
+                Arguments.of("status, source and range", filters("FAIL", "PAYMENT_SERVICE", null, NOW.minusSeconds(1000))));
+    }
+
+    private static EventSearchFilters filters(String status, String source, String productCode, LocalDateTime from){
+
+        return new EventSearchFilters(status, source, productCode, from, from != null ? NOW : null, null, null);
+    }
+
+    private Query latest(String field, String value){
+
+        return new Query(Criteria.where(field).is(value)).with(Sort.by(Sort.Order.desc("createdAt")));
+    }
+
+    private void ensureIndexes(Class<?> type){
+
+        var indexOperations = mongoTemplate.indexOps(type);
+
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(type)
+                .forEach(indexOperations::ensureIndex);
+    }
+
+    private Document explain(Query query, Class<?> type){
+
+        var queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        var entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(type);
+
+        return mongoTemplate
+                .getCollection(mongoTemplate.getCollectionName(type))
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .limit(PAGE_SIZE)
+                .explain();
+    }
+
+    private void assertIndexedWithoutSort(Document explain){
+
+        var winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        var stages = new ArrayList<String>();
+
+        collectStages(winningPlan, stages);
+
+        assertThat(stages)
+                .as("winning plan %s", winningPlan.toJson())
+                .contains("IXSCAN")
+                .doesNotContain("SORT", "COLLSCAN");
+    }
+
+    private void collectStages(Object node, List<String> stages){
+
+        if (node instanceof Document document) {
+
+            if (document.get("stage") instanceof String stage) {
+
+                stages.add(stage);
+            }
+
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.microservices.orchestrated.paymentservice.config.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+public class SagaSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentLinkedDeque<SpanRecord> spans = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int memoryCapacity;
+
+    private final BufferedWriter writer;
+
+    public SagaSpanExporter(ObjectMapper objectMapper, int memoryCapacity, Path file) throws IOException {
+
+        this.objectMapper = objectMapper;
+        this.memoryCapacity = memoryCapacity;
+        this.writer = file != null ? createWriter(file) : null;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch){
+
+        try {
+
+            for (SpanData spanData : batch) {
+
+                var record = toRecord(spanData);
+
+                remember(record);
+
+                if (writer != null) {
+
+                    writer.write(objectMapper.writeValueAsString(record));
+                    writer.newLine();
+                }
+            }
+
+            if (writer != null) {
+
+                writer.flush();
+            }
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+
+            log.error("Error trying to export {} spans", batch.size(), e);
+
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush(){
+
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown(){
+
+        if (writer == null) {
+
+            return CompletableResultCode.ofSuccess();
+        }
+
+        try {
+
+            writer.close();
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    public List<SpanRecord> findTrace(String traceId){
+
+        return spans
+                .stream()
+                .filter(span -> span.traceId().equals(traceId))
+                .sorted(Comparator.comparingLong(SpanRecord::startEpochMicros))
+                .toList();
+    }
+
+    public List<String> findRecentTraceIds(int limit){
+
+        var traceIds = new LinkedHashSet<String>();
+        var iterator = spans.descendingIterator();
+
+        while (iterator.hasNext() && traceIds.size() < limit) {
+
+            traceIds.add(iterator.next().traceId());
+        }
+
+        return new ArrayList<>(traceIds);
+    }
+
+    private void remember(SpanRecord record){
+
+        if (memoryCapacity <= 0) {
+
+            return;
+        }
+
+        spans.addLast(record);
+
+        if (size.incrementAndGet() > memoryCapacity) {
+
+            spans.pollFirst();
+            size.decrementAndGet();
+        }
+    }
+
+    private SpanRecord toRecord(SpanData spanData){
+
+        var attributes = new HashMap<String, String>();
+        spanData.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+
+        var parentSpanId = spanData.getParentSpanContext().isValid() ? spanData.getParentSpanId() : null;
+
+        return new SpanRecord(
+                spanData.getTraceId(),
+                spanData.getSpanId(),
+                parentSpanId,
+                spanData.getResource().getAttribute(SERVICE_NAME),
+                spanData.getName(),
+                spanData.getKind().name(),
+                spanData.getStatus().getStatusCode().name(),
+                TimeUnit.NANOSECONDS.toMicros(spanData.getStartEpochNanos()),
+                TimeUnit.NANOSECONDS.toMicros(spanData.getEndEpochNanos() - spanData.getStartEpochNanos()),
+                attributes);
+    }
+
+    private BufferedWriter createWriter(Path file) throws IOException {
+
+        if (file.getParent() != null) {
+
+            Files.createDirectories(file.getParent());
+        }
+
+        return Files.newBufferedWriter(file, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
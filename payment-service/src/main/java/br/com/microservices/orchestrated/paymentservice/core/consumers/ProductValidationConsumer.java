@@ -1,9 +1,14 @@
 package br.com.microservices.orchestrated.paymentservice.core.consumers;
 
+import br.com.microservices.orchestrated.paymentservice.core.backpressure.ListenerBackpressure;
+import br.com.microservices.orchestrated.paymentservice.core.priority.PriorityLanes;
 import br.com.microservices.orchestrated.paymentservice.core.services.PaymentService;
+import br.com.microservices.orchestrated.paymentservice.core.tracing.SagaTracer;
 import br.com.microservices.orchestrated.paymentservice.core.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -16,29 +21,63 @@ public class ProductValidationConsumer {
 
     private final PaymentService service;
 
+    private final SagaTracer sagaTracer;
+
+    private final PriorityLanes priorityLanes;
+
+    private final ListenerBackpressure listenerBackpressure;
+
+    private final MeterRegistry meterRegistry;
+
+    @KafkaListener(
+            id = ListenerBackpressure.FORWARD_LISTENER_PREFIX + "payment-success",
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.payment-success}",
+            concurrency = "${spring.kafka.partitions.payment-success:${spring.kafka.partitions.default}}"
+    )
     @KafkaListener(
+            id = ListenerBackpressure.FORWARD_LISTENER_PREFIX + "payment-success-priority",
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.payment-success}"
+            topics = "${spring.kafka.topic.payment-success}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
     )
-    public void consumePaymentSuccessEvent(String payload){
+    public void consumePaymentSuccessEvent(ConsumerRecord<String, byte[]> record){
 
-        log.info("Receiving event {} from payment-service payment-success topic", payload);
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
 
-        var event = jsonUtil.toEvent(payload);
+        var event = jsonUtil.toEvent(record);
 
-        service.realizePayment(event);
+        log.info("Receiving event {} from payment-service payment-success topic", event);
+
+        var timer = meterRegistry.timer("saga.step.duration", "step", "realizePayment", "lane", priorityLanes.laneOf(record.topic()));
+
+        listenerBackpressure.execute(() -> timer.record(() -> service.realizePayment(event)));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.payment-fail}"
+            topics = "${spring.kafka.topic.payment-fail}",
+            concurrency = "${spring.kafka.partitions.payment-fail:${spring.kafka.partitions.default}}"
     )
-    public void consumePaymentFailEvent(String payload){
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.payment-fail}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
+    )
+    public void consumePaymentFailEvent(ConsumerRecord<String, byte[]> record){
+
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
+
+        var event = jsonUtil.toEvent(record);
 
-        log.info("Receiving event {} from payment-service payment-fail topic", payload);
+        log.info("Receiving event {} from payment-service payment-fail topic", event);
 
-        var event = jsonUtil.toEvent(payload);
+        var timer = meterRegistry.timer("saga.step.duration", "step", "realizeRefund", "lane", priorityLanes.laneOf(record.topic()));
 
-        service.realizeRefund(event);
+        listenerBackpressure.executeCompensation(() -> timer.record(() -> service.realizeRefund(event)));
     }
 }
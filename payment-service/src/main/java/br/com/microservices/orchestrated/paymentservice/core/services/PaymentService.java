@@ -59,7 +59,7 @@ public class PaymentService {
             log.error("Error trying to make payment: ", e);
         }
 
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event.getOrderId(), jsonUtil.encodeStepResult(event));
     }
 
     public void realizeRefund(Event event){
@@ -74,7 +74,7 @@ public class PaymentService {
             addHistory(event, "Rollback not executed for payment");
         }
 
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event.getOrderId(), jsonUtil.encodeStepResult(event));
     }
 
     private void changePaymentToRefund(Event event){
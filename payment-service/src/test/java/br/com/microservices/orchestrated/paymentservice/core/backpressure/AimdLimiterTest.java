@@ -0,0 +1,87 @@
+package br.com.microservices.orchestrated.paymentservice.core.backpressure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long LATENCY_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final long DECREASE_WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void acquireTimesOutWithoutTakingASlot() throws InterruptedException {
+
+        var limiter = new AimdLimiter(1, 1, 10, 0.5, LATENCY_THRESHOLD, DECREASE_WINDOW);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.acquire(TimeUnit.MILLISECONDS.toNanos(10))).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void decreasesAtMostOncePerDecreaseWindow(){
+
+        var limiter = new AimdLimiter(8, 1, 10, 0.5, LATENCY_THRESHOLD, DECREASE_WINDOW);
+
+        acquire(limiter, 3);
+
+        limiter.release(0, true, 0);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.release(0, true, DECREASE_WINDOW / 2);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.release(0, true, DECREASE_WINDOW);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowCompletionsDecreaseLikeCongestion(){
+
+        var limiter = new AimdLimiter(8, 1, 10, 0.5, LATENCY_THRESHOLD, DECREASE_WINDOW);
+
+        acquire(limiter, 1);
+
+        limiter.release(LATENCY_THRESHOLD + 1, false, 0);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void increasesByOneWhenFullAndFastUpToTheMaximum(){
+
+        var limiter = new AimdLimiter(2, 1, 3, 0.5, LATENCY_THRESHOLD, DECREASE_WINDOW);
+
+        acquire(limiter, 2);
+        limiter.release(0, false, 0);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        acquire(limiter, 2);
+        limiter.release(0, false, 0);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void neverDecreasesBelowTheMinimum(){
+
+        var limiter = new AimdLimiter(2, 2, 10, 0.5, LATENCY_THRESHOLD, DECREASE_WINDOW);
+
+        acquire(limiter, 1);
+        limiter.release(0, true, 0);
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    private void acquire(AimdLimiter limiter, int slots){
+
+        for (var i = 0; i < slots; i++) {
+
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+}
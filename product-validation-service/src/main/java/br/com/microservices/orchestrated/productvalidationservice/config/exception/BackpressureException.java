@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.productvalidationservice.config.exception;
+
+public class BackpressureException extends RuntimeException {
+
+    public BackpressureException(String message){
+
+        super(message);
+    }
+}
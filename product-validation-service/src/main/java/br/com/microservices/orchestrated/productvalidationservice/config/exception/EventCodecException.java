@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.productvalidationservice.config.exception;
+
+public class EventCodecException extends RuntimeException {
+
+    public EventCodecException(String message, Throwable cause){
+
+        super(message, cause);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.microservices.orchestrated.productvalidationservice.config.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Endpoint(id = "sagatraces")
+public class SagaTracesEndpoint {
+
+    private static final int RECENT_TRACES = 50;
+
+    private final SagaSpanExporter sagaSpanExporter;
+
+    @ReadOperation
+    public List<String> recentTraces(){
+
+        return sagaSpanExporter.findRecentTraceIds(RECENT_TRACES);
+    }
+
+    @ReadOperation
+    public List<SpanRecord> trace(@Selector String traceId){
+
+        return sagaSpanExporter.findTrace(traceId);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.backpressure;
+
+import java.util.concurrent.TimeUnit;
+
+public class AimdLimiter {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    private final long latencyThresholdNanos;
+
+    private final long decreaseWindowNanos;
+
+    private int limit;
+
+    private int inFlight;
+
+    private boolean decreased;
+
+    private long decreasedAt;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos, long decreaseWindowNanos){
+
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.decreaseWindowNanos = decreaseWindowNanos;
+    }
+
+    public synchronized boolean tryAcquire(){
+
+        if (inFlight >= limit) {
+
+            return false;
+        }
+
+        inFlight++;
+
+        return true;
+    }
+
+    public synchronized boolean acquire(long maxWaitNanos) throws InterruptedException {
+
+        var deadline = System.nanoTime() + maxWaitNanos;
+
+        while (inFlight >= limit) {
+
+            var remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0) {
+
+                return false;
+            }
+
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+
+        inFlight++;
+
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos, boolean congested, long now){
+
+        inFlight--;
+
+        if (congested || latencyNanos > latencyThresholdNanos) {
+
+            if (!decreased || now - decreasedAt >= decreaseWindowNanos) {
+
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                decreased = true;
+                decreasedAt = now;
+            }
+        } else if (inFlight + 1 >= limit) {
+
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        notifyAll();
+    }
+
+    public synchronized boolean isSaturated(){
+
+        return inFlight >= limit;
+    }
+
+    public synchronized int getLimit(){
+
+        return limit;
+    }
+
+    public synchronized int getInFlight(){
+
+        return inFlight;
+    }
+}
@@ -1,9 +1,14 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.consumers;
 
+import br.com.microservices.orchestrated.productvalidationservice.core.backpressure.ListenerBackpressure;
+import br.com.microservices.orchestrated.productvalidationservice.core.priority.PriorityLanes;
 import br.com.microservices.orchestrated.productvalidationservice.core.services.ProductValidationService;
+import br.com.microservices.orchestrated.productvalidationservice.core.tracing.SagaTracer;
 import br.com.microservices.orchestrated.productvalidationservice.core.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -16,29 +21,63 @@ public class ProductValidationConsumer {
 
     private final ProductValidationService service;
 
+    private final SagaTracer sagaTracer;
+
+    private final PriorityLanes priorityLanes;
+
+    private final ListenerBackpressure listenerBackpressure;
+
+    private final MeterRegistry meterRegistry;
+
+    @KafkaListener(
+            id = ListenerBackpressure.FORWARD_LISTENER_PREFIX + "product-validation-success",
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.product-validation-success}",
+            concurrency = "${spring.kafka.partitions.product-validation-success:${spring.kafka.partitions.default}}"
+    )
     @KafkaListener(
+            id = ListenerBackpressure.FORWARD_LISTENER_PREFIX + "product-validation-success-priority",
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.product-validation-success}"
+            topics = "${spring.kafka.topic.product-validation-success}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
     )
-    public void consumeValidationSuccessEvent(String payload){
+    public void consumeValidationSuccessEvent(ConsumerRecord<String, byte[]> record){
 
-        log.info("Receiving event {} from product-validation-service success topic", payload);
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
 
-        var event = jsonUtil.toEvent(payload);
+        var event = jsonUtil.toEvent(record);
 
-        service.validateExistingProducts(event);
+        log.info("Receiving event {} from product-validation-service success topic", event);
+
+        var timer = meterRegistry.timer("saga.step.duration", "step", "validateExistingProducts", "lane", priorityLanes.laneOf(record.topic()));
+
+        listenerBackpressure.execute(() -> timer.record(() -> service.validateExistingProducts(event)));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.product-validation-fail}"
+            topics = "${spring.kafka.topic.product-validation-fail}",
+            concurrency = "${spring.kafka.partitions.product-validation-fail:${spring.kafka.partitions.default}}"
     )
-    public void consumeValidationFailEvent(String payload){
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.product-validation-fail}${saga.priority.topic-suffix}",
+            concurrency = "${saga.priority.concurrency}",
+            autoStartup = "${saga.priority.enabled}"
+    )
+    public void consumeValidationFailEvent(ConsumerRecord<String, byte[]> record){
+
+        sagaTracer.recordLag(record);
+        priorityLanes.recordLag(record);
+
+        var event = jsonUtil.toEvent(record);
 
-        log.info("Receiving event {} from product-validation-service from fail topic", payload);
+        log.info("Receiving event {} from product-validation-service from fail topic", event);
 
-        var event = jsonUtil.toEvent(payload);
+        var timer = meterRegistry.timer("saga.step.duration", "step", "rollbackEvent", "lane", priorityLanes.laneOf(record.topic()));
 
-        service.rollbackEvent(event);
+        listenerBackpressure.executeCompensation(() -> timer.record(() -> service.rollbackEvent(event)));
     }
 }
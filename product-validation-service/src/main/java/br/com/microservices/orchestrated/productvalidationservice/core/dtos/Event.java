@@ -1,6 +1,7 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.dtos;
 
 
+import br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaPriority;
 import br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +31,8 @@ public class Event {
 
     private ESagaStatus status;
 
+    private ESagaPriority priority;
+
     private List<History> eventHistory;
 
     private LocalDateTime createdAt;
@@ -43,4 +46,26 @@ public class Event {
 
         eventHistory.add(history);
     }
+
+    public Event toStepResult(){
+
+        var stepPayload = payload == null ? null : Order.builder()
+                .id(payload.getId())
+                .transactionId(payload.getTransactionId())
+                .totalAmount(payload.getTotalAmount())
+                .totalItems(payload.getTotalItems())
+                .build();
+
+        return Event.builder()
+                .id(id)
+                .transactionId(transactionId)
+                .orderId(orderId)
+                .payload(stepPayload)
+                .source(source)
+                .status(status)
+                .priority(priority)
+                .eventHistory(eventHistory)
+                .createdAt(createdAt)
+                .build();
+    }
 }
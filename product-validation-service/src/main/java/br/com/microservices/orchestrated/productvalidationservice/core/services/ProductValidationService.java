@@ -55,7 +55,7 @@ public class ProductValidationService {
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
 
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event.getOrderId(), jsonUtil.encodeStepResult(event));
     }
 
     private void checkCurrentValidation(Event event) {
@@ -153,7 +153,7 @@ public class ProductValidationService {
 
         addHistory(event, "Rollback executed for product-validation");
 
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event.getOrderId(), jsonUtil.encodeStepResult(event));
     }
 
     private void changeValidationToFail(Event event) {